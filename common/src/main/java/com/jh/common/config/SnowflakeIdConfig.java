@@ -0,0 +1,40 @@
+package com.jh.common.config;
+
+import com.jh.common.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * SnowflakeIdGenerator 등록
+ * - id.snowflake.node-id가 있으면 그 값을, 없으면 Eureka 인스턴스 ID의 해시로 노드 ID(0~1023)를 정합니다.
+ * - 해시는 인스턴스가 많을수록 충돌 가능성이 있으므로, 운영에서는 인스턴스마다 node-id를 지정하는 것을 권장합니다.
+ */
+@Configuration
+@Slf4j
+public class SnowflakeIdConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(
+            @Value("${id.snowflake.node-id:-1}") long configuredNodeId,
+            ObjectProvider<EurekaInstanceConfigBean> eurekaInstance) {
+        long nodeId = configuredNodeId;
+        if (nodeId < 0) {
+            EurekaInstanceConfigBean instance = eurekaInstance.getIfAvailable();
+            String instanceId = instance != null && instance.getInstanceId() != null
+                    ? instance.getInstanceId()
+                    : UUID.randomUUID().toString();
+            nodeId = Math.floorMod(instanceId.hashCode(), SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            log.info("[SnowflakeId] Node id {} derived from instance {}", nodeId, instanceId);
+        }
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(nodeId);
+        SnowflakeIdGenerator.install(generator);
+        return generator;
+    }
+}
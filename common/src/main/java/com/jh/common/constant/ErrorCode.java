@@ -37,9 +37,11 @@ public enum ErrorCode {
     UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다."),
     INVALID_ORDER_ID_TYPE(HttpStatus.BAD_REQUEST, "주문 ID의 데이터 타입이 Long이 아닙니다."),
     INVALID_RESULT_TYPE(HttpStatus.BAD_REQUEST, "결과 타입이 ApiResponse가 아닙니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     //상품 관련 에러 코드
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
+    TOO_MANY_PRODUCTS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 상품 수를 초과했습니다."),
 
 
     // 위시리스트 관련 에러
@@ -63,9 +65,13 @@ public enum ErrorCode {
     RETURN_PERIOD_EXPIRED(HttpStatus.BAD_REQUEST, "반품 요청 가능 기간이 지났습니다."),
     RETURN_NOT_ALLOWED_NOT_REQUESTED(HttpStatus.BAD_REQUEST, "반품 요청 상태에서만 반품 완료가 가능합니다."),
     ORDER_CANNOT_UPDATE_CANCELLED(HttpStatus.BAD_REQUEST, "취소된 주문은 상태를 변경할 수 없습니다."),
+    ORDER_ITEMS_EMPTY(HttpStatus.BAD_REQUEST, "주문할 상품이 없습니다."),
+    ORDER_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "주문 접수 정보를 찾을 수 없거나 만료되었습니다."),
+    ORDER_INTAKE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "주문 접수가 많아 잠시 후 다시 시도해주세요."),
     EVENT_NOT_LINKED_TO_PRODUCT(HttpStatus.BAD_REQUEST, "해당 상품에 대한 이벤트가 존재하지 않습니다."),
     EVENT_SERVICE_EXPIRED(HttpStatus.BAD_REQUEST, "이벤트의 서비스 기간이 지났습니다."),
     STOCK_DECREASE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "재고 감소 처리에 실패했습니다."),
+    DOWNSTREAM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "연동 서비스의 응답 시간이 초과되었습니다."),
     PAYMENT_FAILURE(HttpStatus.BAD_REQUEST, "결제 처리에 실패했습니다."),
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제 정보가 존재하지 않습니다."),
 
@@ -76,6 +82,10 @@ public enum ErrorCode {
 
     // 재고 관련
     STOCK_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "재고 업데이트에 실패했습니다."), // 재고 업데이트 실패
+    STOCK_HOLD_NOT_FOUND(HttpStatus.BAD_REQUEST, "재고 선점 정보가 없거나 만료되었습니다."), // 재고 선점 만료
+    STOCK_HOLD_RELEASED(HttpStatus.CONFLICT, "이미 해제된 재고 선점입니다. 주문을 다시 진행해주세요."), // 만료/취소로 해제된 주문의 재선점
+    INVALID_STOCK_STRIPES(HttpStatus.BAD_REQUEST, "재고 분할 수는 1 이상 32 이하여야 합니다."), // 재고 분할 수 범위 오류
+    EVENT_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "이벤트 상품 정보를 찾을 수 없습니다."),
 
 
     ;
@@ -20,7 +20,8 @@ public enum OrderStatus {
     DELIVERED_DAY1("배송 완료 D+1"),
     FAILED_STOCK("재고 감소 실패"),
     FAILED("주문 실패"),
-    DELIVERED_NOT_FOUNT("이벤트의 서비스 기간이 지났습니다."); // 새로운 주문 대기 상태 추가
+    DELIVERED_NOT_FOUNT("이벤트의 서비스 기간이 지났습니다."), // 새로운 주문 대기 상태 추가
+    EXPIRED("결제 시간 만료"); // 순서(ordinal)로 저장되므로 새 상태는 마지막에 추가
 
     private final String description;
 
@@ -0,0 +1,31 @@
+package com.jh.common.domain.page;
+
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 문자열(불투명) 커서를 사용하는 페이지 응답
+ * - 정렬 키가 여러 컬럼이라 Long 하나로 표현할 수 없는 목록에 사용합니다. (PagedResponseDTO의 커서 버전)
+ */
+@Getter
+public class CursorPagedResponseDTO<T> {
+
+    private String cursor;   // 다음 커서 (마지막 페이지면 null)
+    private int pageSize;    // 요청된 사이즈
+    private List<T> data;    // 데이터 리스트
+    private boolean hasMore; // 더 많은 데이터 존재 여부
+
+    public CursorPagedResponseDTO(String cursor, int pageSize, List<T> data, boolean hasMore) {
+        this.cursor = cursor;
+        this.pageSize = pageSize;
+        this.data = data;
+        this.hasMore = hasMore;
+    }
+
+    // 정적 팩토리 메서드로 생성
+    public static <T> CursorPagedResponseDTO<T> of(List<T> data, String nextCursor, int pageSize, boolean hasMore) {
+        return new CursorPagedResponseDTO<>(nextCursor, pageSize, data, hasMore);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jh.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 SnowflakeIdGenerator로 생성합니다.
+ * - IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT가 가능합니다.
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;Id
+ * &#64;SnowflakeId
+ * private Long orderId;
+ * </pre>
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
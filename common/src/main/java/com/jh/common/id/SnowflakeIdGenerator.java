@@ -0,0 +1,96 @@
+package com.jh.common.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64비트 ID 생성기
+ * - 구조: 부호 1비트(0) | 타임스탬프 41비트(EPOCH 이후 ms, 약 69년) | 노드 10비트(0~1023) | 순번 12비트(ms당 4096개)
+ * - 같은 노드 안에서는 단조 증가하고, 노드가 다르면 충돌하지 않습니다. (노드 ID는 인스턴스마다 달라야 함)
+ * - 시계가 MAX_CLOCK_BACKWARD_MS 이내로 되돌아가면 따라잡을 때까지 기다리고, 그 이상이면 예외를 던집니다.
+ * - 값이 2^53을 넘으므로 JavaScript 클라이언트는 숫자 정밀도 손실에 유의해야 합니다.
+ */
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_BACKWARD_MS = 5;
+
+    private static volatile SnowflakeIdGenerator installed;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    // 시계를 직접 지정 (테스트에서 시계 역행/같은 ms 순번 소진 재현용)
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 스프링 밖(Hibernate ID 생성기 등)에서 사용할 인스턴스를 등록합니다.
+     */
+    public static void install(SnowflakeIdGenerator generator) {
+        installed = generator;
+    }
+
+    public static SnowflakeIdGenerator installed() {
+        SnowflakeIdGenerator generator = installed;
+        if (generator == null) {
+            throw new IllegalStateException("SnowflakeIdGenerator is not installed (SnowflakeIdConfig not loaded)");
+        }
+        return generator;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = clock.getAsLong();
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_CLOCK_BACKWARD_MS) {
+                throw new IllegalStateException("Clock moved backwards by " + backward + "ms");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms의 순번을 모두 사용하면 다음 ms까지 대기
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitUntil(long target) {
+        long timestamp = clock.getAsLong();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = clock.getAsLong();
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,15 @@
+package com.jh.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * &#64;SnowflakeId가 붙은 ID에 등록된 SnowflakeIdGenerator의 값을 할당하는 Hibernate ID 생성기
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIdGenerator.installed().nextId();
+    }
+}
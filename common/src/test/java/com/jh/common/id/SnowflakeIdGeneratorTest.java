@@ -0,0 +1,111 @@
+package com.jh.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake ID의 비트 구성, 시계 역행 처리, 같은 ms 순번 소진 시 동작을 검증합니다.
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long NODE_ID = 7L;
+    private static final long BASE = SnowflakeIdGenerator.EPOCH + 1_000L;
+
+    @Test
+    void 타임스탬프_노드_순번을_비트로_구성한다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID, clockOf(BASE, BASE));
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(timestampOf(first)).isEqualTo(BASE);
+        assertThat(nodeOf(first)).isEqualTo(NODE_ID);
+        assertThat(sequenceOf(first)).isZero();
+        assertThat(sequenceOf(second)).isEqualTo(1);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void 시계가_조금_되돌아가면_따라잡을_때까지_기다린다() {
+        // 1000 → 997(역행 3ms) → 대기 중 998, 999, 1000
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID,
+                clockOf(BASE, BASE - 3, BASE - 2, BASE - 1, BASE));
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(timestampOf(second)).isEqualTo(BASE);
+        assertThat(sequenceOf(second)).isEqualTo(1);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void 시계가_크게_되돌아가면_예외를_던진다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID, clockOf(BASE, BASE - 6));
+
+        generator.nextId();
+
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("6ms");
+    }
+
+    @Test
+    void 같은_ms의_순번을_모두_쓰면_다음_ms로_넘어간다() {
+        // 4097번째 호출까지 같은 ms, 이후 다음 ms
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID,
+                () -> calls.incrementAndGet() <= 4097 ? BASE : BASE + 1);
+
+        long last = -1;
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        assertThat(timestampOf(last)).isEqualTo(BASE);
+        assertThat(sequenceOf(last)).isEqualTo(4095);
+
+        long rolled = generator.nextId();
+        assertThat(timestampOf(rolled)).isEqualTo(BASE + 1);
+        assertThat(sequenceOf(rolled)).isZero();
+        assertThat(rolled).isGreaterThan(last);
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID는_거부한다() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 주어진 값을 차례로 반환하고, 다 쓰면 마지막 값을 계속 반환하는 시계
+     */
+    private static LongSupplier clockOf(Long... values) {
+        Deque<Long> remaining = new ArrayDeque<>(Arrays.asList(values));
+        long last = values[values.length - 1];
+        return () -> remaining.isEmpty() ? last : remaining.poll();
+    }
+
+    private static long timestampOf(long id) {
+        return (id >>> 22) + SnowflakeIdGenerator.EPOCH;
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & 0xFFF;
+    }
+}
@@ -0,0 +1,84 @@
+package com.jh.orderservice.client;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 외부 서비스 호출을 동시에 실행하고 모두 끝날 때까지 기다리는 범위
+ * - fork로 호출마다 제한 시간을 지정하고, join에서 전체 완료 또는 첫 실패까지 기다립니다.
+ * - 하나라도 실패하거나 제한 시간을 넘기면 나머지 호출을 취소하고 그 예외를 그대로 던집니다.
+ *   (아직 시작하지 않은 호출은 실행되지 않고, 이미 보낸 요청은 Feign readTimeout 안에 정리됨)
+ *
+ * 사용 예:
+ * <pre>
+ * DownstreamFanOut fanOut = new DownstreamFanOut(executor);
+ * CompletableFuture&lt;MemberResponse&gt; member = fanOut.fork(() -> findMember(id), Duration.ofSeconds(2));
+ * CompletableFuture&lt;List&lt;Quote&gt;&gt; quotes = fanOut.fork(() -> quote(lines), Duration.ofSeconds(3));
+ * fanOut.join();   // 이후 member.join(), quotes.join()은 바로 반환
+ * </pre>
+ */
+@Slf4j
+public class DownstreamFanOut {
+
+    private final Executor executor;
+    private final List<CompletableFuture<?>> calls = new ArrayList<>();
+    private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+    public DownstreamFanOut(Executor executor) {
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> fork(Supplier<T> call, Duration deadline) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(call, executor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        future.whenComplete((result, e) -> {
+            if (e != null) {
+                firstFailure.completeExceptionally(e);
+            }
+        });
+        calls.add(future);
+        return future;
+    }
+
+    /**
+     * 모든 호출이 끝날 때까지 기다립니다. 첫 실패 시 나머지 호출을 취소하고 실패 원인을 던집니다.
+     */
+    public void join() {
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new));
+        try {
+            CompletableFuture.anyOf(allDone, firstFailure).join();
+        } catch (CompletionException | CancellationException e) {
+            calls.forEach(call -> call.cancel(true));
+            throw translate(e);
+        }
+    }
+
+    private static RuntimeException translate(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof CancellationException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+        if (cause instanceof TimeoutException) {
+            log.warn("[DownstreamFanOut] Downstream call timed out");
+            return new BusinessException(ErrorCode.DOWNSTREAM_TIMEOUT);
+        }
+        log.error("[DownstreamFanOut] Downstream call failed", cause);
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -2,7 +2,13 @@ package com.jh.orderservice.client;
 
 import com.jh.common.util.ApiResponse;
 import com.jh.orderservice.client.dto.EventInfoDTO;
+import com.jh.orderservice.client.dto.ProductQuoteRequest;
+import com.jh.orderservice.client.dto.ProductQuoteResponse;
 import com.jh.orderservice.client.dto.ProductResponse;
+import com.jh.orderservice.client.dto.StockHoldReleaseRequest;
+import com.jh.orderservice.client.dto.StockHoldRequest;
+import com.jh.orderservice.client.dto.StockReserveRequest;
+import com.jh.orderservice.client.dto.StockRestoreBatchRequest;
 import com.jh.orderservice.client.dto.StockUpdateRequest;
 import com.jh.orderservice.config.FeignClientConfig;
 import org.slf4j.Logger;
@@ -11,6 +17,8 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(
     name = "product-service",
     configuration = FeignClientConfig.class
@@ -22,19 +30,58 @@ public interface ProductServiceClient {
     @GetMapping("/products/{productId}")
     ApiResponse<ProductResponse> getProduct(@PathVariable("productId") Long productId);
 
+    @GetMapping("/products")
+    ApiResponse<List<ProductResponse>> getProducts(@RequestParam("ids") List<Long> productIds);
+
+    // 주문 라인 전체의 상품 정보, 적용 단가, 이벤트 유효 여부, 재고 충분 여부를 한 번에 조회
+    @PostMapping("/products/quote")
+    ApiResponse<List<ProductQuoteResponse>> quote(@RequestBody ProductQuoteRequest request);
+
     @GetMapping("/products/{productId}/check-stock")
     Boolean checkStock(
         @PathVariable("productId") Long productId,
         @RequestParam(value = "quantity", required = true) Integer quantity
     );
 
+    // 재고 변경 요청은 주문 ID 기준으로 멱등 처리되므로 재시도해도 한 번만 반영됨
     @PostMapping("/products/stock/decrease")
     @Retryable(maxAttempts = 3)
     ApiResponse<Boolean> decreaseStock(@RequestBody StockUpdateRequest request);
 
     @PostMapping("/products/stock/increase")
+    @Retryable(maxAttempts = 3)
     ApiResponse<Boolean> increaseStock(@RequestBody StockUpdateRequest request);
 
+    // 주문 전체 라인의 재고를 한 번에 복구 (응답: 이번 요청으로 복구된 상품 수)
+    @PostMapping("/products/stock/increase/batch")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Integer> increaseStocks(@RequestBody StockReserveRequest request);
+
+    // 여러 주문의 재고를 한 번에 복구 (응답: 이번 요청으로 복구된 상품 수 합계)
+    @PostMapping("/products/stock/increase/orders")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Integer> increaseStocksForOrders(@RequestBody StockRestoreBatchRequest request);
+
+    @PostMapping("/products/stock/reserve")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Boolean> reserveStock(@RequestBody StockReserveRequest request);
+
+    @PostMapping("/products/stock/holds")
+    ApiResponse<Boolean> holdStock(@RequestBody StockHoldRequest request);
+
+    @PostMapping("/products/stock/holds/{orderId}/commit")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Boolean> commitStockHold(@PathVariable("orderId") Long orderId);
+
+    @PostMapping("/products/stock/holds/{orderId}/release")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Integer> releaseStockHold(@PathVariable("orderId") Long orderId);
+
+    // 여러 주문의 선점을 한 번에 해제 (응답: 복구된 상품 라인 수 합계)
+    @PostMapping("/products/stock/holds/release")
+    @Retryable(maxAttempts = 3)
+    ApiResponse<Integer> releaseStockHolds(@RequestBody StockHoldReleaseRequest request);
+
     @GetMapping("/products/events/{eventId}")
     ApiResponse<EventInfoDTO> getEventInfo(
         @PathVariable("eventId") Long eventId,
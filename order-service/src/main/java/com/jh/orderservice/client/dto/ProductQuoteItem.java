@@ -0,0 +1,16 @@
+package com.jh.orderservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductQuoteItem {
+    private Long productId;
+    private Long eventId;      // 적용 이벤트 ID (선택 사항)
+    private Integer quantity;
+}
@@ -0,0 +1,14 @@
+package com.jh.orderservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuoteRequest {
+    private List<ProductQuoteItem> items;   // 주문 라인 목록
+}
@@ -0,0 +1,24 @@
+package com.jh.orderservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuoteResponse {
+    private Long productId;
+    private boolean productFound;      // 상품 존재 여부
+    private String productName;
+    private BigDecimal price;
+    private Integer quantity;
+    private Long eventId;
+    private String eventName;          // 이벤트가 상품에 연결되지 않았으면 null
+    private BigDecimal discountPrice;  // 적용 단가 (유효한 이벤트면 할인가, 아니면 상품 가격)
+    private Boolean eventValid;        // 이벤트가 연결되어 있고 종료되지 않았는지 (이벤트 미요청 시 null)
+    private Integer stockQuantity;
+    private boolean stockSufficient;   // 같은 상품 라인들의 수량 합계 이상 재고가 있는지
+}
@@ -0,0 +1,18 @@
+package com.jh.orderservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockHoldRequest {
+    private Long orderId;
+    private Long ttlSeconds;
+    private List<StockUpdateRequest> items;
+}
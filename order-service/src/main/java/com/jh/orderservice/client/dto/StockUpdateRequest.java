@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class StockUpdateRequest {
     private Long productId;
     private Integer quantity;
+    private Long orderId;   // 재고 변경 멱등 키 (재시도해도 같은 주문·상품은 한 번만 반영)
 } 
\ No newline at end of file
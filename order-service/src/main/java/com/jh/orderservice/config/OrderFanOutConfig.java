@@ -0,0 +1,32 @@
+package com.jh.orderservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 주문 생성 시 서로 독립적인 외부 서비스 호출(회원 조회, 주문 견적 등)을 동시에 실행하는 스레드 풀
+ * - 풀과 큐 크기를 제한하고, 가득 차면 요청 스레드에서 직접 실행하여 순차 호출로 자연스럽게 감속합니다.
+ */
+@Configuration
+public class OrderFanOutConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor orderFanOutExecutor(
+            @Value("${order.fan-out.core-pool-size:8}") int corePoolSize,
+            @Value("${order.fan-out.max-pool-size:32}") int maxPoolSize,
+            @Value("${order.fan-out.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
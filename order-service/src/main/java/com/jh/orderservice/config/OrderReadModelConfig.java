@@ -0,0 +1,32 @@
+package com.jh.orderservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 주문 읽기 모델(Redis 문서, 회원 인덱스)을 커밋 후 갱신하는 스레드 풀
+ * - 가득 차면 커밋한 스레드에서 직접 갱신하여 변경이 누락되지 않게 합니다.
+ */
+@Configuration
+public class OrderReadModelConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor orderViewExecutor(
+            @Value("${order.read-model.core-pool-size:2}") int corePoolSize,
+            @Value("${order.read-model.max-pool-size:8}") int maxPoolSize,
+            @Value("${order.read-model.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-view-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
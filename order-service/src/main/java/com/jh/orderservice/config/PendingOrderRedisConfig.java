@@ -0,0 +1,36 @@
+package com.jh.orderservice.config;
+
+import com.jh.orderservice.domain.order.cache.PendingOrder;
+import com.jh.orderservice.domain.order.cache.PendingOrderSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 결제 대기 주문(order:{orderId}) 전용 Redis 설정
+ * - 공용 RedisTemplate(JSON + 클래스 이름 포함)과 분리하여 PendingOrderSerializer로 저장합니다.
+ * - 결제 대기 키 만료 알림을 받기 위한 리스너 컨테이너를 등록합니다.
+ */
+@Configuration
+public class PendingOrderRedisConfig {
+
+    @Bean
+    public RedisTemplate<String, PendingOrder> pendingOrderRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, PendingOrder> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new PendingOrderSerializer());
+        return redisTemplate;
+    }
+
+    // 결제 대기 주문 키 만료 알림 수신용 (PendingOrderExpiryListener)
+    @Bean
+    public RedisMessageListenerContainer pendingOrderListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
@@ -3,8 +3,11 @@ package com.jh.orderservice.controller;
 import com.jh.common.util.ApiResponse;
 import com.jh.orderservice.domain.order.dto.DayOffsetRequest;
 import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
+import com.jh.orderservice.domain.order.dto.OrderTicketDTO;
+import com.jh.orderservice.service.intake.OrderIntakeService;
 import com.jh.orderservice.service.order.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +19,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
 
     /**
      * 주문 조회
@@ -26,7 +30,7 @@ public class OrderController {
     @GetMapping
     public ResponseEntity<ApiResponse<?>> getOrders(
             @RequestHeader("X-Authorization-Id") Long memberId,
-            @RequestParam(required = false, defaultValue = "0") Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
         ApiResponse<?> response = orderService.getOrdersByMemberId(memberId, cursor, size);
         return ResponseEntity.ok(response);
@@ -63,6 +67,33 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 주문 비동기 접수 (주문 생성은 작업자가 처리)
+     *
+     * @param orderRequest 주문할 상품 및 수량 정보 리스트
+     * @return ApiResponse  접수 번호 (202 Accepted)
+     */
+    @PostMapping("/intake")
+    public ResponseEntity<ApiResponse<OrderTicketDTO>> submitOrder(
+            @RequestHeader("X-Authorization-Id") Long memberId,
+            @RequestBody List<OrderRequestDTO> orderRequest) {
+        OrderTicketDTO ticket = orderIntakeService.submit(memberId, orderRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(ticket));
+    }
+
+    /**
+     * 주문 접수 상태 조회
+     *
+     * @param ticketId 접수 번호
+     * @return ApiResponse  접수 상태 (CREATED면 주문 ID 포함)
+     */
+    @GetMapping("/intake/{ticketId}")
+    public ResponseEntity<ApiResponse<OrderTicketDTO>> getOrderTicket(
+            @RequestHeader("X-Authorization-Id") Long memberId,
+            @PathVariable String ticketId) {
+        return ResponseEntity.ok(ApiResponse.success(orderIntakeService.getTicket(memberId, ticketId)));
+    }
+
     @PostMapping("/{orderId}")
     public ResponseEntity<ApiResponse<?>> completeOrder(
             @RequestHeader("X-Authorization-Id") Long memberId,
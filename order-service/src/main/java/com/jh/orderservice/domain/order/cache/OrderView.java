@@ -0,0 +1,90 @@
+package com.jh.orderservice.domain.order.cache;
+
+import com.jh.common.constant.OrderStatus;
+import com.jh.orderservice.domain.order.dto.OrderCursor;
+import com.jh.orderservice.domain.order.dto.OrderDetailDTO;
+import com.jh.orderservice.domain.order.dto.OrderDetailsResponseDTO;
+import com.jh.orderservice.domain.order.dto.OrderResponseDTO;
+import com.jh.orderservice.domain.order.entity.Order;
+import com.jh.orderservice.service.order.DeliveryStatusPolicy.DeliveryState;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고객 주문 조회용 읽기 모델 문서 (order:view:{orderId})
+ * - 주문 목록/상세 응답에 필요한 값을 주문 단위로 비정규화하여 저장합니다.
+ * - version은 주문의 마지막 수정 시각(마이크로초)이며, 더 오래된 문서가 최신 문서를 덮어쓰지 않도록 비교에 사용합니다.
+ * - 배송 상태는 시간이 지나면 바뀌므로 응답 시 DeliveryStatusPolicy로 계산한 상태를 사용합니다.
+ *   (배송 상태 일괄 전환으로 문서를 다시 기록하지 않음)
+ */
+public record OrderView(
+        Long orderId,                 // 주문 ID
+        Long memberId,                // 회원 ID (조회 권한 확인)
+        BigDecimal totalPrice,        // 총 주문 금액
+        OrderStatus orderStatus,      // 주문 상태
+        LocalDateTime deliveredDate,  // 배송 완료 시각
+        LocalDateTime createdAt,      // 주문 생성 시각 (목록 정렬 키)
+        LocalDateTime orderedAt,      // 결제 완료 시각 (배송 상태 계산)
+        long version,                 // 마지막 수정 시각 (epoch 마이크로초)
+        List<Line> lines              // 주문 상세
+) {
+
+    public record Line(
+            Long productId,
+            String productName,
+            Integer quantity,
+            BigDecimal price,
+            Long eventId,
+            String eventName,
+            BigDecimal discountPrice
+    ) {
+
+        public OrderDetailDTO toDto() {
+            return new OrderDetailDTO(productId, productName, quantity, price, eventId, eventName, discountPrice);
+        }
+    }
+
+    /**
+     * 주문 상세가 로딩된 주문으로 문서를 만듭니다. (fetch join으로 조회한 주문 사용)
+     */
+    public static OrderView from(Order order) {
+        return new OrderView(
+                order.getOrderId(),
+                order.getMemberId(),
+                order.getTotalPrice(),
+                order.getOrderStatus(),
+                order.getDeliveredDate(),
+                order.getCreatedAt(),
+                order.getOrderedAt(),
+                OrderCursor.toMicros(order.getModifiedAt()),
+                order.getOrderDetails().stream()
+                        .map(detail -> new Line(
+                                detail.getProductId(),
+                                detail.getProductName(),
+                                detail.getQuantity(),
+                                detail.getPrice(),
+                                detail.getEventProductId(),
+                                detail.getEventProductName(),
+                                detail.getDiscountPrice()))
+                        .toList());
+    }
+
+    public OrderCursor cursor() {
+        return new OrderCursor(createdAt, orderId);
+    }
+
+    public OrderResponseDTO toSummary(DeliveryState state) {
+        return new OrderResponseDTO(orderId, totalPrice, state.status().getDescription(), details());
+    }
+
+    public OrderDetailsResponseDTO toDetails(DeliveryState state) {
+        return new OrderDetailsResponseDTO(orderId, state.status().getDescription(), totalPrice,
+                state.deliveredDate(), details());
+    }
+
+    private List<OrderDetailDTO> details() {
+        return lines.stream().map(Line::toDto).toList();
+    }
+}
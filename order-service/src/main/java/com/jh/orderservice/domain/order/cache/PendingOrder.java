@@ -0,0 +1,37 @@
+package com.jh.orderservice.domain.order.cache;
+
+import com.jh.orderservice.domain.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 캐시 값 (order:{orderId})
+ * - JPA 엔티티 대신 결제/만료 처리에 필요한 값만 담아 PendingOrderSerializer로 바이너리 저장합니다.
+ */
+public record PendingOrder(
+        Long orderId,            // 주문 ID
+        Long memberId,           // 회원 ID
+        BigDecimal totalPrice,   // 총 주문 금액
+        long createdAt,          // 생성 시각 (epoch ms)
+        List<Line> lines         // 주문 라인
+) {
+
+    public record Line(
+            Long productId,          // 상품 ID
+            int quantity,            // 수량
+            BigDecimal unitPrice     // 적용 단가 (할인가)
+    ) {
+    }
+
+    public static PendingOrder from(Order order) {
+        return new PendingOrder(
+                order.getOrderId(),
+                order.getMemberId(),
+                order.getTotalPrice(),
+                System.currentTimeMillis(),
+                order.getOrderDetails().stream()
+                        .map(detail -> new Line(detail.getProductId(), detail.getQuantity(), detail.getDiscountPrice()))
+                        .toList());
+    }
+}
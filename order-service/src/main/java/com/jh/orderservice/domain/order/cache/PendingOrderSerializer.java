@@ -0,0 +1,96 @@
+package com.jh.orderservice.domain.order.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PendingOrder 전용 바이너리 직렬화
+ * - 형식: 버전(1) | orderId(8) | memberId(8) | totalPrice | createdAt(8) | 라인 수(2) | 라인 × (productId(8) | quantity(4) | unitPrice)
+ * - 금액(BigDecimal)은 scale(1) | 길이(1) | unscaled 값 바이트로 기록합니다.
+ *   (scale이 -128~127, unscaled 값이 255바이트를 넘는 금액은 잘려서 기록되지 않도록 직렬화 시 거부)
+ * - 클래스 이름/필드 이름을 저장하지 않으므로 JSON(default typing) 대비 크기와 파싱 비용이 작습니다.
+ * - 형식을 바꿀 때는 VERSION을 올리고, 이전 버전 값은 TTL(주문 대기 시간) 안에 사라집니다.
+ */
+public class PendingOrderSerializer implements RedisSerializer<PendingOrder> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] serialize(PendingOrder order) throws SerializationException {
+        if (order == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + order.lines().size() * 24);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            out.writeLong(order.orderId());
+            out.writeLong(order.memberId() != null ? order.memberId() : 0L);
+            writeDecimal(out, order.totalPrice());
+            out.writeLong(order.createdAt());
+            out.writeShort(order.lines().size());
+            for (PendingOrder.Line line : order.lines()) {
+                out.writeLong(line.productId());
+                out.writeInt(line.quantity());
+                writeDecimal(out, line.unitPrice());
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize pending order " + order.orderId(), e);
+        }
+    }
+
+    @Override
+    public PendingOrder deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new SerializationException("Unsupported pending order version: " + version);
+            }
+            long orderId = in.readLong();
+            long memberId = in.readLong();
+            BigDecimal totalPrice = readDecimal(in);
+            long createdAt = in.readLong();
+            int lineCount = in.readUnsignedShort();
+            List<PendingOrder.Line> lines = new ArrayList<>(lineCount);
+            for (int i = 0; i < lineCount; i++) {
+                lines.add(new PendingOrder.Line(in.readLong(), in.readInt(), readDecimal(in)));
+            }
+            return new PendingOrder(orderId, memberId, totalPrice, createdAt, lines);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize pending order", e);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        BigDecimal decimal = value != null ? value : BigDecimal.ZERO;
+        byte[] unscaled = decimal.unscaledValue().toByteArray();
+        if (decimal.scale() < Byte.MIN_VALUE || decimal.scale() > Byte.MAX_VALUE || unscaled.length > 0xFF) {
+            throw new SerializationException("Amount out of range for pending order format: " + decimal);
+        }
+        out.writeByte(decimal.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readByte();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+}
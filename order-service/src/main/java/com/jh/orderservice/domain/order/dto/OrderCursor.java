@@ -0,0 +1,68 @@
+package com.jh.orderservice.domain.order.dto;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 (마지막으로 본 주문의 생성 시각, 주문 ID)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달하며, 클라이언트는 값을 해석하지 않고 그대로 돌려보냅니다.
+ * - 생성 시각은 DB에 저장된 값을 그대로 초/나노초로 기록하여 정렬 키와 정확히 일치시킵니다.
+ */
+public record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+    public static OrderCursor of(OrderSummaryView order) {
+        return new OrderCursor(order.createdAt(), order.orderId());
+    }
+
+    /**
+     * 정렬 키를 고정 길이 문자열로 표현합니다. (마이크로초 16자리:주문 ID 19자리)
+     * - 문자열 순서가 (생성 시각, 주문 ID) 순서와 같아 Redis Sorted Set의 사전순 범위 조회에 사용합니다.
+     */
+    public String sortKey() {
+        return String.format("%016d:%019d", toMicros(createdAt), orderId);
+    }
+
+    public static OrderCursor fromSortKey(String sortKey) {
+        int separator = sortKey.indexOf(':');
+        long micros = Long.parseLong(sortKey.substring(0, separator));
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+        return new OrderCursor(createdAt, Long.valueOf(sortKey.substring(separator + 1)));
+    }
+
+    public static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1000;
+    }
+
+    public String encode() {
+        String raw = createdAt.toEpochSecond(ZoneOffset.UTC) + ":" + createdAt.getNano() + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 응답의 cursor (비어 있거나 "0"이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank() || "0".equals(cursor)) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                    Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+            return new OrderCursor(createdAt, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
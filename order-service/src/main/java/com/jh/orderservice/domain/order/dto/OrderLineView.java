@@ -0,0 +1,22 @@
+package com.jh.orderservice.domain.order.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 목록 조회용 주문 상세 프로젝션 (여러 주문의 상세를 한 번에 조회한 뒤 주문 ID로 묶음)
+ */
+public record OrderLineView(
+        Long orderId,               // 주문 ID
+        Long productId,             // 상품 ID
+        String productName,         // 상품명
+        Integer quantity,           // 수량
+        BigDecimal price,           // 상품 가격
+        Long eventId,               // 이벤트 ID
+        String eventName,           // 이벤트명
+        BigDecimal discountPrice    // 할인 적용 금액
+) {
+
+    public OrderDetailDTO toDto() {
+        return new OrderDetailDTO(productId, productName, quantity, price, eventId, eventName, discountPrice);
+    }
+}
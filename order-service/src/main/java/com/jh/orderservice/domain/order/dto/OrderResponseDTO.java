@@ -1,5 +1,6 @@
 package com.jh.orderservice.domain.order.dto;
 
+import com.jh.common.constant.OrderStatus;
 import com.jh.orderservice.domain.order.entity.Order;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -29,4 +30,13 @@ public class OrderResponseDTO {
                 details
         );
     }
+
+    public static OrderResponseDTO of(OrderSummaryView order, OrderStatus status, List<OrderDetailDTO> details) {
+        return new OrderResponseDTO(
+                order.orderId(),
+                order.totalPrice(),
+                status.getDescription(),
+                details
+        );
+    }
 }
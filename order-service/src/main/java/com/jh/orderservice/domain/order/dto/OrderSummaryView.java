@@ -0,0 +1,19 @@
+package com.jh.orderservice.domain.order.dto;
+
+import com.jh.common.constant.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 프로젝션 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+ */
+public record OrderSummaryView(
+        Long orderId,               // 주문 ID
+        BigDecimal totalPrice,      // 총 주문 금액
+        OrderStatus orderStatus,    // 주문 상태
+        LocalDateTime createdAt,    // 주문 생성 시각 (정렬/커서 키)
+        LocalDateTime orderedAt,    // 결제 완료 시각 (배송 상태 계산)
+        LocalDateTime deliveredDate // 배송 완료 시각 (배송 상태 계산)
+) {
+}
@@ -0,0 +1,18 @@
+package com.jh.orderservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderTicketDTO {
+    private String ticketId;            // 접수 번호
+    private OrderTicketStatus status;   // 접수 상태
+    private Long orderId;               // 생성된 주문 ID (CREATED일 때)
+    private Integer errorCode;          // 실패 코드 (FAILED일 때)
+    private String message;             // 실패 사유 (FAILED일 때)
+
+    public static OrderTicketDTO accepted(String ticketId) {
+        return new OrderTicketDTO(ticketId, OrderTicketStatus.ACCEPTED, null, null, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jh.orderservice.domain.order.dto;
+
+/**
+ * 비동기 주문 접수 상태
+ */
+public enum OrderTicketStatus {
+    ACCEPTED,   // 접수됨 (처리 대기)
+    CREATED,    // 주문 생성 완료
+    FAILED      // 주문 생성 실패
+}
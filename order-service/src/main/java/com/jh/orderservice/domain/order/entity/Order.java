@@ -5,26 +5,40 @@ import com.jh.common.constant.ErrorCode;
 import com.jh.common.constant.OrderStatus;
 import com.jh.common.domain.timestamp.TimeStamp;
 import com.jh.common.exception.BusinessException;
+import com.jh.common.id.SnowflakeId;
+import com.jh.orderservice.domain.order.event.OrderStockRestoreEvent;
+import com.jh.orderservice.service.view.OrderViewEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 회원별 주문 목록 (member_id 조건 + created_at, order_id 역순 커서 탐색)
+        @Index(name = "idx_orders_member_created", columnList = "member_id, created_at, order_id"),
+        // 배송 상태 일괄 전환 대상 조회 (상태 + 기준 시각 범위)
+        @Index(name = "idx_orders_status_ordered", columnList = "order_status, ordered_at"),
+        @Index(name = "idx_orders_status_delivered", columnList = "order_status, delivered_date")
+})
+@EntityListeners(OrderViewEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_id")
     private Long orderId;
 
@@ -40,21 +54,33 @@ public class Order extends TimeStamp {
     @Column(name = "delivered_date")
     private LocalDateTime deliveredDate;
 
+    @Column(name = "ordered_at")
+    private LocalDateTime orderedAt; // 결제 완료(ORDERED) 시각, 배송 상태 계산 기준
+
     @Column(name = "day_offset")
     private int dayOffset;
 
+    @Column(name = "intake_ticket_id", length = 36, unique = true)
+    private String intakeTicketId; // 비동기 접수로 생성된 주문의 접수 ID (재처리 시 중복 생성 방지용 멱등 키)
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     private List<OrderDetail> orderDetails = new ArrayList<>();
 
+    // 저장(save) 시 발행되는 도메인 이벤트 (커밋 후 처리)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final transient List<Object> domainEvents = new ArrayList<>();
 
     @Builder
-    public Order(Long memberId, BigDecimal totalPrice, OrderStatus orderStatus, LocalDateTime deliveredDate, int dayOffset) {
+    public Order(Long memberId, BigDecimal totalPrice, OrderStatus orderStatus, LocalDateTime deliveredDate, int dayOffset,
+                 String intakeTicketId) {
         this.memberId = memberId;
         this.totalPrice = totalPrice;
         this.orderStatus = orderStatus;
         this.deliveredDate = deliveredDate;
         this.dayOffset = dayOffset;
+        this.intakeTicketId = intakeTicketId;
     }
 
     /**
@@ -77,6 +103,7 @@ public class Order extends TimeStamp {
             throw new BusinessException(ErrorCode.ORDER_CANCELLATION_PERIOD_EXPIRED);
         }
         this.orderStatus = OrderStatus.CANCELLED;
+        registerStockRestore();
     }
 
     /**
@@ -89,13 +116,15 @@ public class Order extends TimeStamp {
 
     /**
      * 반품 요청
+     *
+     * @param returnDeadline 반품 가능 기한 (DeliveryStatusPolicy.returnDeadline, 기한 시각부터 반품 불가)
      */
-    public void requestReturn() {
+    public void requestReturn(LocalDateTime returnDeadline) {
         if (!OrderStatus.DELIVERED.equals(this.orderStatus) && !OrderStatus.DELIVERED_DAY1.equals(this.orderStatus)) {
             throw new BusinessException(ErrorCode.RETURN_NOT_ALLOWED_NOT_DELIVERED);
         }
 
-        if (this.deliveredDate.plusDays(1).isBefore(LocalDateTime.now())) {
+        if (returnDeadline == null || !LocalDateTime.now().isBefore(returnDeadline)) {
             throw new BusinessException(ErrorCode.RETURN_PERIOD_EXPIRED);
         }
 
@@ -111,6 +140,7 @@ public class Order extends TimeStamp {
         }
 
         this.orderStatus = OrderStatus.RETURNED;
+        registerStockRestore();
     }
 
     /**
@@ -143,12 +173,30 @@ public class Order extends TimeStamp {
         this.orderStatus = newStatus;
 
         System.out.println("After updating status, new status: " + this.orderStatus);
+        // 결제 완료 시각 기록 (배송 상태는 이 시각부터 경과 시간으로 계산)
+        if (newStatus.equals(OrderStatus.ORDERED)) {
+            this.orderedAt = LocalDateTime.now();
+        }
         // 배송 완료 상태일 경우, 배송 완료 시간 기록
         if (newStatus.equals(OrderStatus.DELIVERED)) {
             this.markAsDelivered();
         }
     }
 
+    /**
+     * 경과 시간으로 계산한 배송 상태를 엔티티에 반영 (취소/반품처럼 현재 상태로 판단하는 변경 전에 호출)
+     *
+     * @param status        계산된 배송 상태
+     * @param deliveredDate 계산된 배송 완료 시각
+     */
+    public void applyDeliveryStatus(OrderStatus status, LocalDateTime deliveredDate) {
+        if (this.orderStatus == status) {
+            return;
+        }
+        this.orderStatus = status;
+        this.deliveredDate = deliveredDate;
+    }
+
     /**
      * dayOffset 값을 증가시키는 메서드
      *
@@ -157,4 +205,24 @@ public class Order extends TimeStamp {
     public void updateSetDayOffset(int dayOffset) {
         this.dayOffset = dayOffset;
     }
-}
\ No newline at end of file
+
+    /**
+     * 결제 완료 후 취소/반품된 주문의 재고 복구 이벤트 등록 (주문 라인을 함께 담음)
+     */
+    private void registerStockRestore() {
+        List<OrderStockRestoreEvent.Line> lines = this.orderDetails.stream()
+                .map(detail -> new OrderStockRestoreEvent.Line(detail.getProductId(), detail.getQuantity()))
+                .toList();
+        this.domainEvents.add(new OrderStockRestoreEvent(this.orderId, this.orderStatus, lines, LocalDateTime.now()));
+    }
+
+    @DomainEvents
+    protected Collection<Object> domainEvents() {
+        return Collections.unmodifiableList(this.domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    protected void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
+}
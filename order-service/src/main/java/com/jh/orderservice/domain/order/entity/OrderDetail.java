@@ -2,6 +2,7 @@ package com.jh.orderservice.domain.order.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.jh.common.domain.timestamp.TimeStamp;
+import com.jh.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,7 @@ import java.math.BigDecimal;
 public class OrderDetail extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "order_detail_id")
     private Long orderDetailId;
 
@@ -0,0 +1,68 @@
+package com.jh.orderservice.domain.order.entity;
+
+import com.jh.common.domain.timestamp.TimeStamp;
+import com.jh.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋 후 처리할 주문 도메인 이벤트 (트랜잭션 아웃박스)
+ * - 이벤트를 발생시킨 주문 변경과 같은 트랜잭션에서 저장되므로, 커밋된 변경의 이벤트는 프로세스가 종료되어도 남습니다.
+ * - OrderEventDispatcher가 처리 시각(next_attempt_at)이 된 이벤트를 선점(claim_token)하여 처리하고, 성공하면 삭제합니다.
+ */
+@Getter
+@Entity
+@Table(name = "order_outbox", indexes = {
+        // 처리 대상 조회 (상태 + 처리 시각 범위)
+        @Index(name = "idx_order_outbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_order_outbox_claim", columnList = "claim_token")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderOutboxEvent extends TimeStamp {
+
+    public enum Status {
+        PENDING,    // 처리 대기 (재시도 대기 포함)
+        FAILED      // 재시도 한도 초과 (수동 확인 필요)
+    }
+
+    @Id
+    @SnowflakeId
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    public OrderOutboxEvent(Long orderId, String eventType, String payload) {
+        this.orderId = orderId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
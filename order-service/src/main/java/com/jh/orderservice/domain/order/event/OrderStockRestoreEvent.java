@@ -0,0 +1,22 @@
+package com.jh.orderservice.domain.order.event;
+
+import com.jh.common.constant.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 완료 후 취소/반품되어 재고를 복구해야 하는 주문 (Order 엔티티가 상태 변경 시 등록)
+ * - 커밋 후 OrderEventDispatcher가 묶어서 product-service에 복구를 요청합니다.
+ * - 복구에 필요한 라인을 함께 담아, 처리 시 주문을 다시 조회하지 않습니다.
+ *
+ * @param orderId    주문 ID (상품별 복구 멱등 키)
+ * @param status     변경된 주문 상태 (CANCELLED, RETURNED)
+ * @param lines      복구할 상품 ID와 수량
+ * @param occurredAt 상태 변경 시각
+ */
+public record OrderStockRestoreEvent(Long orderId, OrderStatus status, List<Line> lines, LocalDateTime occurredAt) {
+
+    public record Line(Long productId, Integer quantity) {
+    }
+}
@@ -1,9 +1,22 @@
 package com.jh.orderservice.domain.order.repository;
 
+import com.jh.orderservice.domain.order.dto.OrderLineView;
 import com.jh.orderservice.domain.order.entity.OrderDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long> {
+
+    // 여러 주문의 상세를 한 번에 조회 (주문 목록 페이지당 1회)
+    @Query("SELECT new com.jh.orderservice.domain.order.dto.OrderLineView(" +
+            "d.order.orderId, d.productId, d.productName, d.quantity, d.price, " +
+            "d.eventProductId, d.eventProductName, d.discountPrice) " +
+            "FROM OrderDetail d WHERE d.order.orderId IN :orderIds")
+    List<OrderLineView> findLinesByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,63 @@
+package com.jh.orderservice.domain.order.repository;
+
+import com.jh.orderservice.domain.order.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxEventRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // 처리 시각이 된 이벤트 ID (idx_order_outbox_status_next)
+    @Query("SELECT e.outboxId FROM OrderOutboxEvent e " +
+            "WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") OrderOutboxEvent.Status status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 아직 처리 시각인 이벤트만 선점 (다른 인스턴스가 먼저 선점한 이벤트는 처리 시각이 미뤄져 제외됨)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderOutboxEvent e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.outboxId IN :ids AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("status") OrderOutboxEvent.Status status,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<OrderOutboxEvent> findByClaimToken(String claimToken);
+
+    // 재시도 예약 (선점 해제)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.claimToken = null WHERE e.outboxId = :outboxId")
+    int reschedule(@Param("outboxId") Long outboxId,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 상태 변경 (재시도 한도 초과 시 FAILED, 선점 해제)
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = :attempts, e.status = :status, e.claimToken = null " +
+            "WHERE e.outboxId = :outboxId")
+    int updateStatus(@Param("outboxId") Long outboxId,
+                   @Param("attempts") int attempts,
+                   @Param("status") OrderOutboxEvent.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.outboxId IN :ids")
+    int deleteByOutboxIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(OrderOutboxEvent.Status status);
+}
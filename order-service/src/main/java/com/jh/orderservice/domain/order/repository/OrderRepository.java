@@ -1,10 +1,19 @@
 package com.jh.orderservice.domain.order.repository;
 
+import com.jh.common.constant.OrderStatus;
+import com.jh.orderservice.domain.order.dto.OrderCursor;
+import com.jh.orderservice.domain.order.dto.OrderSummaryView;
 import com.jh.orderservice.domain.order.entity.Order;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +21,85 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderIdAndMemberId(Long orderId, Long memberId);
 
-    List<Order> findAllByMemberId(Long memberId, Sort sort);
+    // 주문과 주문 상세를 쿼리 한 번으로 조회 (상세 목록을 별도로 LAZY 로딩하지 않음)
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderDetails WHERE o.orderId = :orderId")
+    Optional<Order> findWithDetailsByOrderId(@Param("orderId") Long orderId);
+
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderDetails " +
+            "WHERE o.orderId = :orderId AND o.memberId = :memberId")
+    Optional<Order> findWithDetailsByOrderIdAndMemberId(@Param("orderId") Long orderId,
+                                                        @Param("memberId") Long memberId);
+
+    // 여러 주문을 주문 상세와 함께 쿼리 한 번으로 조회 (읽기 모델 문서 생성용)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderDetails WHERE o.orderId IN :orderIds")
+    List<Order> findWithDetailsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    // 회원의 전체 주문 정렬 키 (idx_orders_member_created 인덱스만 읽음, 읽기 모델 회원 인덱스 재구성용)
+    @Query("SELECT new com.jh.orderservice.domain.order.dto.OrderCursor(o.createdAt, o.orderId) " +
+            "FROM Order o WHERE o.memberId = :memberId")
+    List<OrderCursor> findCursorsByMemberId(@Param("memberId") Long memberId);
+
+    // 회원의 최근 주문 목록 첫 페이지 (idx_orders_member_created 인덱스 순서대로 읽음)
+    @Query("SELECT new com.jh.orderservice.domain.order.dto.OrderSummaryView(" +
+            "o.orderId, o.totalPrice, o.orderStatus, o.createdAt, o.orderedAt, o.deliveredDate) " +
+            "FROM Order o WHERE o.memberId = :memberId " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderSummaryView> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 커서(마지막으로 본 주문의 생성 시각, 주문 ID) 이후의 주문 목록 (앞 페이지를 건너뛰지 않고 인덱스에서 바로 탐색)
+    @Query("SELECT new com.jh.orderservice.domain.order.dto.OrderSummaryView(" +
+            "o.orderId, o.totalPrice, o.orderStatus, o.createdAt, o.orderedAt, o.deliveredDate) " +
+            "FROM Order o WHERE o.memberId = :memberId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderSummaryView> findSummariesByMemberIdBefore(@Param("memberId") Long memberId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("orderId") Long orderId,
+                                                         Pageable pageable);
+
+    // 접수 ID로 이미 생성된 주문 확인 (intake_ticket_id 유니크 인덱스)
+    @Query("select o.orderId from Order o where o.intakeTicketId = :ticketId")
+    Optional<Long> findOrderIdByIntakeTicketId(@Param("ticketId") String ticketId);
+
+    // 현재 상태가 from인 주문만 to로 일괄 변경 (다른 상태로 바뀐 주문은 건너뜀)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Order o SET o.orderStatus = :to, o.modifiedAt = :now " +
+            "WHERE o.orderId IN :orderIds AND o.orderStatus = :from")
+    int updateOrderStatusByOrderIdIn(@Param("orderIds") Collection<Long> orderIds,
+                                     @Param("from") OrderStatus from,
+                                     @Param("to") OrderStatus to,
+                                     @Param("now") LocalDateTime now);
+
+    // 결제 완료 시각이 기준 이전인 주문 ID (배송 상태 일괄 전환 대상, idx_orders_status_ordered)
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.orderStatus IN :statuses AND o.orderedAt <= :orderedBefore ORDER BY o.orderId")
+    List<Long> findOrderIdsByStatusInAndOrderedAtBefore(@Param("statuses") Collection<OrderStatus> statuses,
+                                                        @Param("orderedBefore") LocalDateTime orderedBefore,
+                                                        Pageable pageable);
+
+    // 배송 완료 시각이 기준 이전인 주문 ID (idx_orders_status_delivered)
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.orderStatus = :status AND o.deliveredDate <= :deliveredBefore ORDER BY o.orderId")
+    List<Long> findOrderIdsByStatusAndDeliveredDateBefore(@Param("status") OrderStatus status,
+                                                          @Param("deliveredBefore") LocalDateTime deliveredBefore,
+                                                          Pageable pageable);
+
+    // 배송 완료로 일괄 전환 (배송 완료 시각 = 결제 완료 시각 + 배송 소요 시간)
+    // 상태는 순서(ordinal)로 저장되므로 네이티브 쿼리에는 ordinal 값을 전달
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE orders SET order_status = :to, " +
+            "delivered_date = DATE_ADD(ordered_at, INTERVAL :deliveredAfterSeconds SECOND), modified_at = :now " +
+            "WHERE order_id IN (:orderIds) AND order_status IN (:from)", nativeQuery = true)
+    int markDeliveredByOrderIdIn(@Param("orderIds") Collection<Long> orderIds,
+                                 @Param("from") Collection<Integer> fromOrdinals,
+                                 @Param("to") int toOrdinal,
+                                 @Param("deliveredAfterSeconds") long deliveredAfterSeconds,
+                                 @Param("now") LocalDateTime now);
+
+    @Query("SELECT o.orderId FROM Order o WHERE o.orderId IN :orderIds AND o.orderStatus = :status")
+    List<Long> findOrderIdsByOrderIdInAndOrderStatus(@Param("orderIds") Collection<Long> orderIds,
+                                                     @Param("status") OrderStatus status);
 
 }
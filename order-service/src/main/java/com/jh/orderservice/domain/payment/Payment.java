@@ -1,6 +1,7 @@
 package com.jh.orderservice.domain.payment;
 
 import com.jh.common.domain.timestamp.TimeStamp;
+import com.jh.common.id.SnowflakeId;
 import com.jh.orderservice.domain.order.entity.Order;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 public class Payment extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "payment_id")
     private Long paymentId;
 
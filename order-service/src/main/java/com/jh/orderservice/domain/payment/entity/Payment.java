@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jh.common.constant.PaymentFailureReason;
 import com.jh.common.constant.PaymentStatus;
 import com.jh.common.domain.timestamp.TimeStamp;
+import com.jh.common.id.SnowflakeId;
 import com.jh.orderservice.domain.order.entity.Order;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -18,7 +19,7 @@ import lombok.NoArgsConstructor;
 public class Payment extends TimeStamp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "payment_id")
     private Long paymentId;
 
@@ -4,6 +4,8 @@ import com.jh.common.constant.PaymentStatus;
 import com.jh.orderservice.domain.order.entity.Order;
 import com.jh.orderservice.domain.payment.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,5 +16,11 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByOrder(Order order);
     List<Payment> findByOrder_OrderId(Long orderId);
+
+    // 주문의 결제 내역을 주문, 주문 상세와 함께 쿼리 한 번으로 조회 (결제 응답 변환용)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order o LEFT JOIN FETCH o.orderDetails " +
+            "WHERE o.orderId = :orderId")
+    List<Payment> findWithOrderDetailsByOrderId(@Param("orderId") Long orderId);
+
     boolean existsByOrder_OrderIdAndPaymentStatusIn(Long orderId, List<PaymentStatus> paymentStatuses);
 }
@@ -0,0 +1,35 @@
+package com.jh.orderservice.service.intake;
+
+import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
+import com.jh.orderservice.domain.order.dto.OrderTicketDTO;
+
+import java.util.List;
+
+public interface OrderIntakeService {
+
+    /**
+     * 주문 요청을 검증한 뒤 주문 접수 스트림에 추가하고 접수 번호를 반환합니다.
+     *
+     * @param memberId      회원 ID
+     * @param orderRequests 주문할 상품 및 수량 정보 리스트
+     * @return 접수 번호와 ACCEPTED 상태
+     *
+     * 사용 예:
+     * - 트래픽이 몰리는 시간에 DB/상품 서비스 처리량과 무관하게 주문 요청을 즉시 접수 (202 응답)
+     * - 클라이언트는 반환된 접수 번호로 getTicket을 조회하여 주문 생성 결과를 확인
+     * - 처리 대기 중인 접수가 order.intake.max-backlog 이상이면 ORDER_INTAKE_BUSY 예외
+     */
+    OrderTicketDTO submit(Long memberId, List<OrderRequestDTO> orderRequests);
+
+    /**
+     * 주문 접수 상태를 조회합니다.
+     *
+     * @param memberId 회원 ID (접수한 회원만 조회 가능)
+     * @param ticketId 접수 번호
+     * @return 접수 상태 (CREATED면 주문 ID, FAILED면 실패 코드와 사유 포함)
+     *
+     * 사용 예:
+     * - 접수 후 상태가 ACCEPTED가 아닐 때까지 주기적으로 조회
+     */
+    OrderTicketDTO getTicket(Long memberId, String ticketId);
+}
@@ -0,0 +1,120 @@
+package com.jh.orderservice.service.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
+import com.jh.orderservice.domain.order.dto.OrderTicketDTO;
+import com.jh.orderservice.domain.order.dto.OrderTicketStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeServiceImpl implements OrderIntakeService {
+
+    static final String STREAM_KEY = "order:intake";
+    static final String TICKET_KEY_PREFIX = "order:intake:ticket:";
+
+    // 대기 건수 확인, 접수 상태 기록, 스트림 추가를 한 번에 수행 (대기 건수 초과 시 0)
+    // KEYS[1]=스트림, KEYS[2]=접수 상태 Hash, ARGV[1]=최대 대기 건수, ARGV[2]=상태 TTL(초),
+    // ARGV[3]=접수 번호, ARGV[4]=회원 ID, ARGV[5]=주문 라인(JSON)
+    private static final RedisScript<Long> SUBMIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('XLEN', KEYS[1]) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('HSET', KEYS[2], 'memberId', ARGV[4], 'status', 'ACCEPTED') " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "redis.call('XADD', KEYS[1], '*', 'ticketId', ARGV[3], 'memberId', ARGV[4], 'items', ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.intake.max-backlog:100000}")
+    private long maxBacklog;
+
+    @Value("${order.intake.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    /**
+     * 주문 요청을 주문 접수 스트림에 추가합니다.
+     *
+     * 동작 방식:
+     * - 주문 라인이 비어 있거나 상품 ID/수량이 잘못된 요청은 접수하지 않습니다. (DB/외부 서비스 호출 없음)
+     * - 접수 상태 Hash(order:intake:ticket:{ticketId}) 기록과 스트림 추가를 스크립트 한 번으로 처리합니다.
+     * - 주문 생성은 OrderIntakeWorker가 소비자 그룹으로 나누어 처리합니다.
+     */
+    @Override
+    public OrderTicketDTO submit(Long memberId, List<OrderRequestDTO> orderRequests) {
+        validate(orderRequests);
+
+        String ticketId = UUID.randomUUID().toString();
+        Long accepted = stringRedisTemplate.execute(
+                SUBMIT_SCRIPT,
+                List.of(STREAM_KEY, ticketKey(ticketId)),
+                String.valueOf(maxBacklog),
+                String.valueOf(ticketTtlSeconds),
+                ticketId,
+                String.valueOf(memberId),
+                toJson(orderRequests));
+        if (accepted == null || accepted != 1) {
+            log.warn("[OrderIntake] Backlog is full ({}), rejected member: {}", maxBacklog, memberId);
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_BUSY);
+        }
+
+        log.debug("[OrderIntake] Accepted ticket: {}, member: {}, lines: {}", ticketId, memberId, orderRequests.size());
+        return OrderTicketDTO.accepted(ticketId);
+    }
+
+    @Override
+    public OrderTicketDTO getTicket(Long memberId, String ticketId) {
+        Map<Object, Object> ticket = stringRedisTemplate.opsForHash().entries(ticketKey(ticketId));
+        if (ticket.isEmpty() || !String.valueOf(memberId).equals(ticket.get("memberId"))) {
+            throw new BusinessException(ErrorCode.ORDER_TICKET_NOT_FOUND);
+        }
+
+        return new OrderTicketDTO(
+                ticketId,
+                OrderTicketStatus.valueOf((String) ticket.get("status")),
+                ticket.containsKey("orderId") ? Long.valueOf((String) ticket.get("orderId")) : null,
+                ticket.containsKey("errorCode") ? Integer.valueOf((String) ticket.get("errorCode")) : null,
+                (String) ticket.get("message"));
+    }
+
+    static String ticketKey(String ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+
+    private void validate(List<OrderRequestDTO> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new BusinessException(ErrorCode.ORDER_ITEMS_EMPTY);
+        }
+        for (OrderRequestDTO request : orderRequests) {
+            if (request.getProductId() == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            if (request.getQuantity() == null || request.getQuantity() <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+            }
+        }
+    }
+
+    private String toJson(List<OrderRequestDTO> orderRequests) {
+        try {
+            return objectMapper.writeValueAsString(orderRequests);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.jh.orderservice.service.intake;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
+import com.jh.orderservice.domain.order.dto.OrderTicketStatus;
+import com.jh.orderservice.service.order.OrderService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 접수 스트림(order:intake)을 소비자 그룹으로 읽어 주문을 생성하는 작업자
+ * - 작업자 스레드마다 XREADGROUP으로 최대 order.intake.batch-size건씩 읽고, 주문마다 별도 트랜잭션으로 생성합니다.
+ *   (한 주문의 실패가 같은 묶음의 다른 주문에 영향을 주지 않음)
+ * - 처리 결과(CREATED/FAILED)를 접수 상태 Hash에 기록한 뒤 ACK하고 스트림에서 삭제합니다. (XLEN = 처리 대기 건수)
+ * - 업무 예외(재고 부족, 회원 없음 등)는 FAILED로 기록하고, 그 외 예외는 ACK하지 않아 재처리 대상이 됩니다.
+ * - 처리 중 인스턴스가 종료되어 오래 남은 메시지는 reclaim이 가져와 다시 처리하고,
+ *   order.intake.max-deliveries회 이상 전달된 메시지는 FAILED로 종료합니다.
+ * - 접수 ID를 주문의 멱등 키(intake_ticket_id 유니크 컬럼)로 주문과 같은 트랜잭션에 저장하므로,
+ *   주문 DB 커밋 후 상태 기록 전에 종료되어 재처리되어도 기존 주문 ID로 CREATED를 기록합니다.
+ *   (접수 상태 확인은 이미 완료된 접수의 재처리를 건너뛰는 용도)
+ */
+@Component
+@Slf4j
+public class OrderIntakeWorker {
+
+    static final String GROUP = "order-intake";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.intake.worker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.intake.worker.threads:2}")
+    private int threadCount;
+
+    @Value("${order.intake.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order.intake.block-ms:2000}")
+    private long blockMs;
+
+    @Value("${order.intake.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    @Value("${order.intake.max-deliveries:3}")
+    private long maxDeliveries;
+
+    @Value("${order.intake.reclaim-idle-ms:60000}")
+    private long reclaimIdleMs;
+
+    // 인스턴스별 소비자 이름 접두사 (재시작 시 이전 소비자의 미처리 메시지는 reclaim이 가져감)
+    private final String consumerPrefix = "order-service-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OrderIntakeWorker(StringRedisTemplate stringRedisTemplate,
+                             OrderService orderService,
+                             ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[OrderIntake] Worker disabled");
+            return;
+        }
+        createGroup();
+        running = true;
+        for (int i = 0; i < threadCount; i++) {
+            String consumer = consumerPrefix + "-" + i;
+            Thread worker = new Thread(() -> poll(consumer), "order-intake-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("[OrderIntake] Started {} workers ({})", threadCount, consumerPrefix);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            // 처리 중인 묶음은 마저 처리하고 종료 (읽기 대기는 block-ms 안에 끝남)
+            worker.join(blockMs + 10_000);
+        }
+    }
+
+    /**
+     * 다른 소비자가 읽은 뒤 오래 처리하지 못한 메시지를 가져와 다시 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${order.intake.reclaim-interval-ms:30000}")
+    public void reclaim() {
+        if (!running) {
+            return;
+        }
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(OrderIntakeServiceImpl.STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+
+        Map<RecordId, Long> deliveries = new HashMap<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().toMillis() >= reclaimIdleMs) {
+                deliveries.put(message.getId(), message.getTotalDeliveryCount());
+            }
+        }
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream().claim(
+                OrderIntakeServiceImpl.STREAM_KEY, GROUP, consumerPrefix + "-reclaim",
+                Duration.ofMillis(reclaimIdleMs), deliveries.keySet().toArray(RecordId[]::new));
+        log.warn("[OrderIntake] Reclaimed {} stale messages", claimed.size());
+
+        for (MapRecord<String, Object, Object> record : claimed) {
+            if (deliveries.getOrDefault(record.getId(), 0L) >= maxDeliveries) {
+                String ticketId = (String) record.getValue().get("ticketId");
+                log.error("[OrderIntake] Giving up ticket {} after {} deliveries", ticketId, deliveries.get(record.getId()));
+                complete(ticketId, OrderTicketStatus.FAILED, null, new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+                acknowledge(record.getId());
+                continue;
+            }
+            process(record);
+        }
+    }
+
+    private void poll(String consumer) {
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records = readBatch(consumer);
+                if (records != null) {
+                    records.forEach(this::process);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.error("[OrderIntake] Failed to read stream ({})", consumer, e);
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    // StreamOperations.read는 StreamOffset 가변 인자(제네릭 배열)만 받으므로, 단일 스트림 읽기의 배열 생성 경고만 억제
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> readBatch(String consumer) {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs)),
+                StreamOffset.create(OrderIntakeServiceImpl.STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    private void process(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        String ticketId = (String) value.get("ticketId");
+
+        // 이미 처리된 접수(재전달)는 다시 생성하지 않음
+        Object status = stringRedisTemplate.opsForHash().get(OrderIntakeServiceImpl.ticketKey(ticketId), "status");
+        if (status != null && !OrderTicketStatus.ACCEPTED.name().equals(status)) {
+            acknowledge(record.getId());
+            return;
+        }
+
+        try {
+            Long memberId = Long.valueOf((String) value.get("memberId"));
+            List<OrderRequestDTO> orderRequests = objectMapper.readValue(
+                    (String) value.get("items"), new TypeReference<List<OrderRequestDTO>>() {});
+
+            Long orderId = orderService.placePendingOrder(memberId, orderRequests, ticketId);
+            complete(ticketId, OrderTicketStatus.CREATED, orderId, null);
+        } catch (BusinessException e) {
+            complete(ticketId, OrderTicketStatus.FAILED, null, e);
+        } catch (Exception e) {
+            // ACK하지 않음 → reclaim이 다시 처리
+            log.error("[OrderIntake] Failed to process ticket {}, will retry", ticketId, e);
+            return;
+        }
+        acknowledge(record.getId());
+    }
+
+    private void complete(String ticketId, OrderTicketStatus status, Long orderId, BusinessException error) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", status.name());
+        if (orderId != null) {
+            fields.put("orderId", String.valueOf(orderId));
+        }
+        if (error != null) {
+            fields.put("errorCode", String.valueOf(error.getCode()));
+            fields.put("message", error.getMessage());
+        }
+        String ticketKey = OrderIntakeServiceImpl.ticketKey(ticketId);
+        stringRedisTemplate.opsForHash().putAll(ticketKey, fields);
+        stringRedisTemplate.expire(ticketKey, Duration.ofSeconds(ticketTtlSeconds));
+    }
+
+    private void acknowledge(RecordId recordId) {
+        stringRedisTemplate.opsForStream().acknowledge(OrderIntakeServiceImpl.STREAM_KEY, GROUP, recordId);
+        stringRedisTemplate.opsForStream().delete(OrderIntakeServiceImpl.STREAM_KEY, recordId);
+    }
+
+    private void createGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    OrderIntakeServiceImpl.STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류 (정상)
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jh.orderservice.service.order;
+
+import com.jh.common.constant.OrderStatus;
+import com.jh.orderservice.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 시간이 지나 바뀐 배송 상태를 DB에 일괄 반영하는 작업
+ * - 조회 응답은 DeliveryStatusPolicy가 계산한 상태를 사용하므로, 이 작업은 DB 상태를 뒤따라 맞추는 역할만 합니다.
+ * - 전환마다 대상 주문 ID를 order.delivery.batch-size건씩 인덱스로 읽고, 조건부 UPDATE 1회로 전환합니다.
+ *   (주문을 엔티티로 읽거나 주문마다 저장하지 않음, 청크마다 별도 트랜잭션)
+ * - 그 사이 취소/반품 등으로 상태가 바뀐 주문은 UPDATE 조건(현재 상태)에서 제외되므로,
+ *   여러 인스턴스에서 동시에 실행되어도 같은 결과가 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryStatusJob {
+
+    private static final List<Integer> DELIVERABLE_ORDINALS =
+            List.of(OrderStatus.ORDERED.ordinal(), OrderStatus.SHIPPING.ordinal());
+
+    private final OrderRepository orderRepository;
+    private final DeliveryStatusPolicy deliveryStatusPolicy;
+
+    @Value("${order.delivery.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.delivery.job-interval-ms:60000}")
+    public void persistTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest chunk = PageRequest.of(0, batchSize);
+
+        // 배송 완료를 먼저 반영 (배송 중을 거치지 않고 바로 완료 대상이 된 주문 포함)
+        int delivered = advance(
+                () -> orderRepository.findOrderIdsByStatusInAndOrderedAtBefore(
+                        List.of(OrderStatus.ORDERED, OrderStatus.SHIPPING),
+                        deliveryStatusPolicy.deliveredThreshold(now), chunk),
+                orderIds -> orderRepository.markDeliveredByOrderIdIn(
+                        orderIds, DELIVERABLE_ORDINALS, OrderStatus.DELIVERED.ordinal(),
+                        deliveryStatusPolicy.deliveredAfter().toSeconds(), now));
+
+        int shipping = advance(
+                () -> orderRepository.findOrderIdsByStatusInAndOrderedAtBefore(
+                        List.of(OrderStatus.ORDERED), deliveryStatusPolicy.shippingThreshold(now), chunk),
+                orderIds -> orderRepository.updateOrderStatusByOrderIdIn(
+                        orderIds, OrderStatus.ORDERED, OrderStatus.SHIPPING, now));
+
+        int deliveredDay1 = advance(
+                () -> orderRepository.findOrderIdsByStatusAndDeliveredDateBefore(
+                        OrderStatus.DELIVERED, deliveryStatusPolicy.day1Threshold(now), chunk),
+                orderIds -> orderRepository.updateOrderStatusByOrderIdIn(
+                        orderIds, OrderStatus.DELIVERED, OrderStatus.DELIVERED_DAY1, now));
+
+        if (delivered + shipping + deliveredDay1 > 0) {
+            log.info("[DeliveryStatusJob] Persisted transitions - shipping: {}, delivered: {}, delivered D+1: {}",
+                    shipping, delivered, deliveredDay1);
+        }
+    }
+
+    /**
+     * 대상이 없을 때까지 청크 단위로 전환합니다.
+     *
+     * @return 전환된 주문 수
+     */
+    private int advance(Supplier<List<Long>> nextChunk, Function<List<Long>, Integer> update) {
+        int total = 0;
+        List<Long> orderIds;
+        do {
+            orderIds = nextChunk.get();
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            int updated = update.apply(orderIds);
+            total += updated;
+            if (updated == 0) {
+                // 조회 직후 모두 다른 상태로 바뀐 경우 (같은 청크를 반복해서 읽지 않도록 중단)
+                break;
+            }
+        } while (orderIds.size() == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jh.orderservice.service.order;
+
+import com.jh.common.constant.OrderStatus;
+import com.jh.orderservice.domain.order.entity.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 완료 시각(orderedAt)으로부터의 경과 시간으로 배송 상태를 계산합니다.
+ * - ORDERED → SHIPPING (order.delivery.shipping-after 경과)
+ * - ORDERED/SHIPPING → DELIVERED (order.delivery.delivered-after 경과, 배송 완료 시각 = orderedAt + delivered-after)
+ * - DELIVERED → DELIVERED_DAY1 (배송 완료 후 order.delivery.day1-after 경과)
+ * - 반품 가능 기한: 배송 완료 시각 + order.delivery.return-window (기한 시각부터 반품 불가)
+ * 조회 시에는 저장된 상태 대신 계산된 상태를 응답하고, DB 상태는 DeliveryStatusJob이 일괄 UPDATE로 뒤따라 맞춥니다.
+ * 저장된 상태보다 이전 단계로 되돌리지 않으며, 그 외 상태(취소, 반품 등)는 그대로 둡니다.
+ */
+@Component
+public class DeliveryStatusPolicy {
+
+    /**
+     * 계산된 배송 상태와 배송 완료 시각
+     */
+    public record DeliveryState(OrderStatus status, LocalDateTime deliveredDate) {
+    }
+
+    @Value("${order.delivery.shipping-after:PT24H}")
+    private Duration shippingAfter;
+
+    @Value("${order.delivery.delivered-after:PT48H}")
+    private Duration deliveredAfter;
+
+    @Value("${order.delivery.day1-after:PT24H}")
+    private Duration day1After;
+
+    @Value("${order.delivery.return-window:PT48H}")
+    private Duration returnWindow;
+
+    public DeliveryState resolve(OrderStatus stored, LocalDateTime orderedAt, LocalDateTime deliveredDate,
+                                 LocalDateTime now) {
+        OrderStatus status = stored;
+        LocalDateTime delivered = deliveredDate;
+
+        if ((stored == OrderStatus.ORDERED || stored == OrderStatus.SHIPPING) && orderedAt != null) {
+            LocalDateTime deliveredAt = orderedAt.plus(deliveredAfter);
+            if (!now.isBefore(deliveredAt)) {
+                status = OrderStatus.DELIVERED;
+                delivered = deliveredAt;
+            } else if (stored == OrderStatus.ORDERED && !now.isBefore(orderedAt.plus(shippingAfter))) {
+                status = OrderStatus.SHIPPING;
+            }
+        }
+        if (status == OrderStatus.DELIVERED && delivered != null && !now.isBefore(delivered.plus(day1After))) {
+            status = OrderStatus.DELIVERED_DAY1;
+        }
+        return new DeliveryState(status, delivered);
+    }
+
+    public OrderStatus statusOf(OrderStatus stored, LocalDateTime orderedAt, LocalDateTime deliveredDate) {
+        return resolve(stored, orderedAt, deliveredDate, LocalDateTime.now()).status();
+    }
+
+    /**
+     * 계산된 배송 상태를 엔티티에 반영합니다. (상태로 판단하는 쓰기 작업 전에 호출, 커밋 시 함께 저장)
+     */
+    public void sync(Order order) {
+        DeliveryState state = resolve(order.getOrderStatus(), order.getOrderedAt(), order.getDeliveredDate(),
+                LocalDateTime.now());
+        order.applyDeliveryStatus(state.status(), state.deliveredDate());
+    }
+
+    // DeliveryStatusJob 일괄 전환 기준 시각
+    public LocalDateTime shippingThreshold(LocalDateTime now) {
+        return now.minus(shippingAfter);
+    }
+
+    public LocalDateTime deliveredThreshold(LocalDateTime now) {
+        return now.minus(deliveredAfter);
+    }
+
+    public LocalDateTime day1Threshold(LocalDateTime now) {
+        return now.minus(day1After);
+    }
+
+    /**
+     * 반품 가능 기한을 계산합니다.
+     *
+     * @param deliveredDate 배송 완료 시각
+     * @return 반품 가능 기한 (배송 완료 시각이 없으면 null)
+     */
+    public LocalDateTime returnDeadline(LocalDateTime deliveredDate) {
+        return deliveredDate != null ? deliveredDate.plus(returnWindow) : null;
+    }
+
+    public Duration deliveredAfter() {
+        return deliveredAfter;
+    }
+}
@@ -0,0 +1,209 @@
+package com.jh.orderservice.service.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.orderservice.client.ProductServiceClient;
+import com.jh.orderservice.client.dto.StockReserveRequest;
+import com.jh.orderservice.client.dto.StockRestoreBatchRequest;
+import com.jh.orderservice.client.dto.StockUpdateRequest;
+import com.jh.orderservice.domain.order.entity.OrderOutboxEvent;
+import com.jh.orderservice.domain.order.event.OrderStockRestoreEvent;
+import com.jh.orderservice.domain.order.repository.OrderOutboxEventRepository;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order 엔티티가 발행한 도메인 이벤트를 아웃박스(order_outbox)에 저장하고, 커밋된 이벤트를 모아서 처리하는 디스패처
+ * - 저장(save) 시 발행된 이벤트를 커밋 직전에 같은 트랜잭션으로 아웃박스에 기록합니다.
+ *   (롤백된 변경의 이벤트는 남지 않고, 커밋된 변경의 이벤트는 프로세스가 종료되어도 남음)
+ * - order.events.flush-interval-ms마다 처리 시각이 된 이벤트를 최대 order.events.batch-size건씩 선점하여
+ *   product-service 호출 1회로 재고를 복구하고, 성공한 이벤트를 삭제합니다. (요청 스레드에서 외부 호출 없음)
+ * - 선점은 조건부 UPDATE로 처리 시각을 order.events.lease-ms 뒤로 미루므로, 여러 인스턴스가 같은 이벤트를 동시에
+ *   처리하지 않고, 처리 중 종료된 인스턴스의 이벤트는 선점 시간이 지나면 다시 처리됩니다.
+ * - 재고 복구는 주문·상품 단위로 멱등이므로, 같은 이벤트를 다시 보내도 한 번만 반영됩니다.
+ * - 연결 실패 등으로 묶음 호출이 실패하면 묶음 전체를, 일부 주문이 거절되면 주문별로 다시 호출해 실패한 주문만
+ *   재시도합니다. (order.events.retry-backoff-ms부터 두 배씩 대기, order.events.max-attempts회 초과 시 FAILED로 보관)
+ */
+@Component
+@Slf4j
+public class OrderEventDispatcher {
+
+    private final OrderOutboxEventRepository outboxRepository;
+    private final ProductServiceClient productServiceClient;
+    private final ObjectMapper objectMapper;
+
+    private final Counter restoredCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    @Value("${order.events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.events.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${order.events.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${order.events.lease-ms:30000}")
+    private long leaseMs;
+
+    public OrderEventDispatcher(OrderOutboxEventRepository outboxRepository,
+                                ProductServiceClient productServiceClient,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.productServiceClient = productServiceClient;
+        this.objectMapper = objectMapper;
+
+        this.restoredCounter = Counter.builder("order.events.stock-restored")
+                .description("커밋 후 재고 복구를 완료한 주문 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("order.events.retried")
+                .description("재시도 대기로 돌려보낸 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.events.failed")
+                .description("재시도 한도를 넘어 FAILED로 보관한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("order.events.backlog", backlog, AtomicLong::get)
+                .description("처리 대기 중인 아웃박스 이벤트 수 (직전 flush 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재고 복구 이벤트를 주문 변경과 같은 트랜잭션으로 아웃박스에 기록합니다. (커밋 직전에 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStockRestore(OrderStockRestoreEvent event) {
+        if (event.lines().isEmpty()) {
+            return;
+        }
+        try {
+            outboxRepository.save(new OrderOutboxEvent(
+                    event.orderId(), OrderStockRestoreEvent.class.getSimpleName(), objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            // 기록하지 못하면 주문 변경도 커밋하지 않음
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.events.flush-interval-ms:1000}")
+    public void flush() {
+        List<OrderOutboxEvent> batch;
+        do {
+            batch = claimDue();
+            if (!batch.isEmpty()) {
+                restore(batch);
+            }
+        } while (batch.size() == batchSize);
+        backlog.set(outboxRepository.countByStatus(OrderOutboxEvent.Status.PENDING));
+    }
+
+    private List<OrderOutboxEvent> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboxRepository.findDueIds(
+                OrderOutboxEvent.Status.PENDING, now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        int claimed = outboxRepository.claim(
+                dueIds, OrderOutboxEvent.Status.PENDING, token, now, now.plus(Duration.ofMillis(leaseMs)));
+        if (claimed == 0) {
+            return List.of(); // 다른 인스턴스가 먼저 선점
+        }
+        return outboxRepository.findByClaimToken(token);
+    }
+
+    private void restore(List<OrderOutboxEvent> batch) {
+        List<StockReserveRequest> requests;
+        try {
+            requests = batch.stream().map(this::toRequest).toList();
+        } catch (IllegalStateException e) {
+            // 읽을 수 없는 이벤트가 섞여 있으면 이벤트별로 처리
+            batch.forEach(this::restoreOne);
+            return;
+        }
+
+        try {
+            productServiceClient.increaseStocksForOrders(new StockRestoreBatchRequest(requests));
+        } catch (FeignException e) {
+            if (e.status() <= 0 || batch.size() == 1) {
+                // 연결 실패/타임아웃 또는 단건 실패: 묶음 전체를 재시도
+                log.warn("[OrderEvents] Failed to restore stock for {} orders ({})", batch.size(), e.getMessage());
+                batch.forEach(this::retry);
+                return;
+            }
+            // 일부 주문이 거절된 경우: 주문별로 다시 호출해 실패한 주문만 재시도
+            batch.forEach(this::restoreOne);
+            return;
+        }
+        outboxRepository.deleteByOutboxIdIn(batch.stream().map(OrderOutboxEvent::getOutboxId).toList());
+        restoredCounter.increment(batch.size());
+        log.info("[OrderEvents] Restored stock for {} orders", batch.size());
+    }
+
+    private void restoreOne(OrderOutboxEvent outboxEvent) {
+        try {
+            productServiceClient.increaseStocks(toRequest(outboxEvent));
+        } catch (FeignException | IllegalStateException e) {
+            log.warn("[OrderEvents] Failed to restore stock for order {} ({})", outboxEvent.getOrderId(), e.getMessage());
+            retry(outboxEvent);
+            return;
+        }
+        outboxRepository.deleteByOutboxIdIn(List.of(outboxEvent.getOutboxId()));
+        restoredCounter.increment();
+    }
+
+    private void retry(OrderOutboxEvent outboxEvent) {
+        int attempts = outboxEvent.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            outboxRepository.updateStatus(outboxEvent.getOutboxId(), attempts, OrderOutboxEvent.Status.FAILED);
+            failedCounter.increment();
+            log.error("[OrderEvents] Gave up restoring stock after {} attempts: outbox {}, order {}, payload {}",
+                    attempts, outboxEvent.getOutboxId(), outboxEvent.getOrderId(), outboxEvent.getPayload());
+            return;
+        }
+        long backoffMs = retryBackoffMs << Math.min(attempts - 1, 10);
+        outboxRepository.reschedule(outboxEvent.getOutboxId(), attempts,
+                LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+        retriedCounter.increment();
+    }
+
+    private StockReserveRequest toRequest(OrderOutboxEvent outboxEvent) {
+        OrderStockRestoreEvent event;
+        try {
+            event = objectMapper.readValue(outboxEvent.getPayload(), OrderStockRestoreEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload: " + outboxEvent.getOutboxId(), e);
+        }
+        return StockReserveRequest.builder()
+                .orderId(event.orderId())
+                .items(event.lines().stream()
+                        .map(line -> StockUpdateRequest.builder()
+                                .productId(line.productId())
+                                .quantity(line.quantity())
+                                .orderId(event.orderId())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -5,12 +5,38 @@ import com.jh.orderservice.domain.order.dto.DayOffsetRequest;
 import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
 import com.jh.orderservice.domain.payment.dto.PaymentResponseDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderService {
 
     ApiResponse<?> createPendingOrder(Long memberId, List<OrderRequestDTO> orderRequest);
 
+    /**
+     * 결제 대기 주문을 생성하고 재고를 선점합니다. (createPendingOrder와 같은 처리)
+     *
+     * @param memberId       회원 ID
+     * @param orderRequests  주문할 상품 및 수량 정보 리스트
+     * @param intakeTicketId 접수 ID (멱등 키, null이면 재요청을 구분하지 않음)
+     * @return 생성된 주문 ID (같은 접수 ID로 이미 생성된 주문이 있으면 그 주문 ID)
+     *
+     * 사용 예:
+     * - OrderIntakeWorker가 재전달된 접수를 다시 처리해도 주문과 재고 선점은 한 번만 생성
+     */
+    Long placePendingOrder(Long memberId, List<OrderRequestDTO> orderRequests, String intakeTicketId);
+
+    /**
+     * 결제 시간이 지난 결제 대기 주문을 일괄 만료 처리합니다.
+     *
+     * @param orderIds 결제 대기 시간이 지난 주문 ID 목록
+     * @return 만료(EXPIRED) 상태가 된 주문 ID 목록 (그 사이 결제/취소된 주문은 제외)
+     *
+     * 사용 예:
+     * - PendingOrderExpiryProcessor가 결제 대기 키 만료 알림 또는 만료 스윕으로 모은 주문을 한 번에 처리
+     * - 반환된 주문의 재고 선점은 호출 측에서 일괄 해제
+     */
+    List<Long> expirePendingOrders(Collection<Long> orderIds);
+
     ApiResponse<?> completeOrder(Long memberId, Long orderId, List<OrderRequestDTO> orderRequest);
 
     ApiResponse<?> cancelOrder(Long memberId, Long orderId);
@@ -29,12 +55,18 @@ public interface OrderService {
     ApiResponse<?> updateOrderStatus(Long orderId, DayOffsetRequest dayOffsetRequest);
 
     /**
-     * 회원의 모든 주문 조회
+     * 회원의 주문 목록 조회 (최신순, 커서 기반)
      *
      * @param memberId 회원 ID
-     * @return ApiResponse
+     * @param cursor   이전 응답의 cursor (없거나 "0"이면 첫 페이지)
+     * @param size     한 페이지에 표시할 주문 수 (최대 100)
+     * @return ApiResponse (CursorPagedResponseDTO, 마지막 페이지면 cursor는 null)
+     *
+     * 사용 예:
+     * - 클라이언트는 응답의 cursor를 해석하지 않고 그대로 다음 요청에 전달
+     * - 주문 수와 무관하게 페이지당 같은 비용으로 조회 (앞 페이지를 건너뛰며 읽지 않음)
      */
-    ApiResponse<?> getOrdersByMemberId(Long memberId, Long page, int size);
+    ApiResponse<?> getOrdersByMemberId(Long memberId, String cursor, int size);
 
     /**
      * 특정 주문 상세 조회
@@ -5,39 +5,45 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jh.common.constant.ErrorCode;
 import com.jh.common.constant.OrderStatus;
 import com.jh.common.constant.PaymentStatus;
-import com.jh.common.domain.page.PagedResponseDTO;
 import com.jh.common.exception.BusinessException;
 import com.jh.common.util.ApiResponse;
+import com.jh.orderservice.client.DownstreamFanOut;
 import com.jh.orderservice.client.MemberClient;
 import com.jh.orderservice.client.MemberResponse;
 import com.jh.orderservice.client.ProductServiceClient;
-import com.jh.orderservice.client.dto.EventInfoDTO;
+import com.jh.orderservice.client.dto.ProductQuoteItem;
+import com.jh.orderservice.client.dto.ProductQuoteRequest;
+import com.jh.orderservice.client.dto.ProductQuoteResponse;
 import com.jh.orderservice.client.dto.ProductResponse;
+import com.jh.orderservice.client.dto.StockHoldRequest;
 import com.jh.orderservice.client.dto.StockUpdateRequest;
+import com.jh.orderservice.domain.order.cache.PendingOrder;
 import com.jh.orderservice.domain.order.dto.DayOffsetRequest;
-import com.jh.orderservice.domain.order.dto.OrderDetailsResponseDTO;
 import com.jh.orderservice.domain.order.dto.OrderRequestDTO;
-import com.jh.orderservice.domain.order.dto.OrderResponseDTO;
 import com.jh.orderservice.domain.order.entity.Order;
 import com.jh.orderservice.domain.order.entity.OrderDetail;
-import com.jh.orderservice.domain.order.repository.OrderDetailRepository;
 import com.jh.orderservice.domain.order.repository.OrderRepository;
 import com.jh.orderservice.domain.payment.dto.PaymentResponseDto;
 import com.jh.orderservice.domain.payment.entity.Payment;
 import com.jh.orderservice.domain.payment.repository.PaymentRepository;
 import com.jh.orderservice.service.payment.PaymentService;
+import com.jh.orderservice.service.view.OrderViewProjector;
+import com.jh.orderservice.service.view.OrderViewService;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,36 +52,97 @@ import java.util.stream.Collectors;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderDetailRepository orderDetailRepository;
     private final MemberClient memberClient;
     private final ProductServiceClient productClient;
     private final ObjectMapper objectMapper;
     private final PaymentService paymentService;
     private final PaymentRepository paymentRepository;
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private static final String ORDER_KEY_PREFIX = "order:";
+    private final PendingOrderStore pendingOrderStore;
+    private final ThreadPoolTaskExecutor orderFanOutExecutor;
+    private final OrderViewService orderViewService;
+    private final OrderViewProjector orderViewProjector;
+    private final DeliveryStatusPolicy deliveryStatusPolicy;
+
+    @Value("${order.fan-out.member-timeout-ms:2000}")
+    private long memberTimeoutMs;
+
+    @Value("${order.fan-out.quote-timeout-ms:3000}")
+    private long quoteTimeoutMs;
+
     private static final long ORDER_TIMEOUT = 5; // 30분 타임아웃
 
     @Override
     @Transactional
     public ApiResponse<?> createPendingOrder(Long memberId, List<OrderRequestDTO> orderRequests) {
-        MemberResponse member = findMemberById(memberId);
-        Order order = createAndSaveOrder(member);
+        placePendingOrder(memberId, orderRequests, null);
 
-        processOrderDetails(order, orderRequests);
+        return ApiResponse.success("주문이 성공적으로 생성되었습니다.");
+    }
 
-        // Redis에 주문 정보 저장
-        String redisKey = ORDER_KEY_PREFIX + order.getOrderId();
+    /**
+     * 결제 대기 주문 생성
+     *
+     * 동작 방식:
+     * - 접수 ID가 있으면 같은 접수로 이미 생성된 주문을 먼저 확인하고, 있으면 그 주문 ID를 반환합니다.
+     *   (주문 커밋 후 접수 상태 기록 전에 종료되어 재처리된 경우)
+     * - 접수 ID는 주문과 같은 트랜잭션에서 유니크 컬럼으로 저장하고 재고 선점 전에 flush하므로,
+     *   같은 접수를 동시에 처리하면 한쪽은 선점 전에 유니크 제약 위반으로 실패합니다.
+     */
+    @Override
+    @Transactional
+    public Long placePendingOrder(Long memberId, List<OrderRequestDTO> orderRequests, String intakeTicketId) {
+        if (intakeTicketId != null) {
+            Optional<Long> placedOrderId = orderRepository.findOrderIdByIntakeTicketId(intakeTicketId);
+            if (placedOrderId.isPresent()) {
+                log.info("[placePendingOrder] Ticket {} already placed as order {}", intakeTicketId, placedOrderId.get());
+                return placedOrderId.get();
+            }
+        }
 
-        // 직렬화 설정을 변경하지 않고 그대로 사용
-        redisTemplate.opsForValue().set(
-                redisKey,
-                order,
-                Duration.ofMinutes(ORDER_TIMEOUT)
-        );
+        // 서로 독립적인 회원 조회와 주문 견적을 동시에 호출 (하나라도 실패하면 나머지는 취소)
+        DownstreamFanOut fanOut = new DownstreamFanOut(orderFanOutExecutor);
+        CompletableFuture<MemberResponse> memberCall = fanOut.fork(
+                () -> findMemberById(memberId), Duration.ofMillis(memberTimeoutMs));
+        CompletableFuture<List<ProductQuoteResponse>> quoteCall = fanOut.fork(
+                () -> quoteOrderLines(orderRequests), Duration.ofMillis(quoteTimeoutMs));
+        fanOut.join();
 
-        return ApiResponse.success("주문이 성공적으로 생성되었습니다.");
+        Order order = createAndSaveOrder(memberCall.join(), intakeTicketId);
+
+        processOrderDetails(order, orderRequests, quoteCall.join());
+
+        // 주문 대기 시간 동안 재고 선점 (결제 시 확정, 만료 시 자동 해제)
+        holdStock(order);
+
+        // 결제 대기 주문 저장 (결제 가능 여부 확인용, 주문 대기 시간이 지나면 만료)
+        pendingOrderStore.save(PendingOrder.from(order), Duration.ofMinutes(ORDER_TIMEOUT));
+
+        return order.getOrderId();
+    }
+
+    /**
+     * 결제 시간이 지난 결제 대기 주문을 일괄 만료 처리합니다.
+     *
+     * 동작 방식:
+     * - 아직 ORDER_PENDING인 주문만 EXPIRED로 바꾸는 조건부 UPDATE 1회 (주문을 엔티티로 읽지 않음)
+     * - 같은 트랜잭션에서 EXPIRED 상태인 주문 ID를 다시 조회하여 반환합니다. (변경한 행은 커밋까지 잠겨 있음)
+     */
+    @Override
+    @Transactional
+    public List<Long> expirePendingOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        int updated = orderRepository.updateOrderStatusByOrderIdIn(
+                orderIds, OrderStatus.ORDER_PENDING, OrderStatus.EXPIRED, LocalDateTime.now());
+        if (updated == 0) {
+            return List.of();
+        }
+        List<Long> expired = orderRepository.findOrderIdsByOrderIdInAndOrderStatus(orderIds, OrderStatus.EXPIRED);
+        // 일괄 UPDATE는 엔티티 콜백을 거치지 않으므로 읽기 모델 갱신을 직접 예약
+        orderViewProjector.refreshAfterCommit(expired);
+        return expired;
     }
 
     @Override
@@ -97,64 +164,46 @@ public class OrderServiceImpl implements OrderService {
         return ApiResponse.success("주문이 성공적으로 완료 되었습니다.");
     }
 
-    private void processOrderDetails(Order order, List<OrderRequestDTO> orderRequests) {
+    private void processOrderDetails(Order order, List<OrderRequestDTO> orderRequests,
+                                     List<ProductQuoteResponse> quotes) {
         BigDecimal totalPrice = BigDecimal.ZERO;
 
-        for (OrderRequestDTO request : orderRequests) {
-            ProductResponse product = findProductById(request.getProductId());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            OrderRequestDTO request = orderRequests.get(i);
+            ProductQuoteResponse quote = quotes.get(i);
 
-            // 재고 확인
-            try {
-                log.debug("Requesting stock check for productId: {} with quantity: {}", product.getProductId(), request.getQuantity());
-                Boolean stockCheckResponse = productClient.checkStock(
-                        product.getProductId(),
-                        request.getQuantity()
-                );
-                log.debug("Stock check response: " + stockCheckResponse);
-                if (!stockCheckResponse) {
-                    throw new BusinessException(ErrorCode.STOCK_NOT_ENOUGH);
-                }
-
-            } catch (FeignException e) {
-                log.error("FeignException during stock check: " + e.getMessage(), e);
-                log.error("Response body: " + e.contentUTF8());  // 응답 내용 추가 로그
+            if (!quote.isProductFound()) {
                 throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
             }
-
-            // 이벤트 정보 조회 및 가격 계산
-            BigDecimal finalPrice;
+            // 재고 확인
+            if (!quote.isStockSufficient()) {
+                throw new BusinessException(ErrorCode.STOCK_NOT_ENOUGH);
+            }
+            // 이벤트 확인 (가격은 이벤트가 유효하면 할인가로 계산되어 있음)
             if (request.getEventId() != null) {
-                try {
-                    EventInfoDTO eventInfo = productClient.getEventInfo(request.getEventId(), product.getProductId()).getData();
-
-                    if (eventInfo.getEndDate().isBefore(LocalDateTime.now())) {
-                        throw new BusinessException(ErrorCode.EVENT_SERVICE_EXPIRED); // 종료된 이벤트
-                    }
-
-                    finalPrice = eventInfo.getDiscountPrice();
-                } catch (FeignException e) {
+                if (quote.getEventName() == null) {
                     throw new BusinessException(ErrorCode.EVENT_NOT_FOUND);
                 }
-            } else {
-                finalPrice = product.getPrice();
+                if (!Boolean.TRUE.equals(quote.getEventValid())) {
+                    throw new BusinessException(ErrorCode.EVENT_SERVICE_EXPIRED); // 종료된 이벤트
+                }
             }
+            BigDecimal finalPrice = quote.getDiscountPrice();
 
             // 주문 상세 생성
             OrderDetail orderDetail = OrderDetail.builder()
                     .order(order)
-                    .productId(product.getProductId())
-                    .productName(product.getProductName())
+                    .productId(quote.getProductId())
+                    .productName(quote.getProductName())
                     .quantity(request.getQuantity())
-                    .price(product.getPrice())
+                    .price(quote.getPrice())
                     .discountPrice(finalPrice)
                     .eventProductId(request.getEventId())
-                    .eventProductName(request.getEventId() != null ?
-                            productClient.getEventInfo(request.getEventId(), product.getProductId())
-                                    .getData().getEventName() : null)  // 이벤트 이름
+                    .eventProductName(quote.getEventName())  // 이벤트 이름
                     .build();
 
+            // 주문 저장 시 cascade로 함께 INSERT (커밋 시 주문과 상세를 배치 INSERT)
             order.addOrderDetail(orderDetail);
-            orderDetailRepository.save(orderDetail);
 
             totalPrice = totalPrice.add(finalPrice.multiply(BigDecimal.valueOf(request.getQuantity())));
         }
@@ -162,6 +211,53 @@ public class OrderServiceImpl implements OrderService {
         order.updateTotalPrice(totalPrice);
     }
 
+    // 주문 전체 라인의 상품/이벤트/재고 정보를 한 번에 조회 (라인 순서대로 응답)
+    private List<ProductQuoteResponse> quoteOrderLines(List<OrderRequestDTO> orderRequests) {
+        ProductQuoteRequest quoteRequest = new ProductQuoteRequest(orderRequests.stream()
+                .map(request -> ProductQuoteItem.builder()
+                        .productId(request.getProductId())
+                        .eventId(request.getEventId())
+                        .quantity(request.getQuantity())
+                        .build())
+                .toList());
+
+        try {
+            ApiResponse<List<ProductQuoteResponse>> response = productClient.quote(quoteRequest);
+            if (response == null || response.getData() == null
+                    || response.getData().size() != orderRequests.size()) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            return response.getData();
+        } catch (FeignException e) {
+            log.error("FeignException during order quote: " + e.getMessage(), e);
+            log.error("Response body: " + e.contentUTF8());  // 응답 내용 추가 로그
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+    }
+
+    private void holdStock(Order order) {
+        StockHoldRequest request = StockHoldRequest.builder()
+                .orderId(order.getOrderId())
+                .ttlSeconds(Duration.ofMinutes(ORDER_TIMEOUT).toSeconds())
+                .items(order.getOrderDetails().stream()
+                        .map(detail -> StockUpdateRequest.builder()
+                                .productId(detail.getProductId())
+                                .quantity(detail.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        try {
+            ApiResponse<Boolean> response = productClient.holdStock(request);
+            if (response == null || !Boolean.TRUE.equals(response.getData())) {
+                throw new BusinessException(ErrorCode.STOCK_NOT_ENOUGH);
+            }
+        } catch (FeignException e) {
+            log.error("FeignException during stock hold: " + e.getMessage(), e);
+            throw new BusinessException(ErrorCode.STOCK_NOT_ENOUGH);
+        }
+    }
+
     private String createProductSnapshot(ProductResponse product) {
         try {
             return objectMapper.writeValueAsString(product);
@@ -181,39 +277,32 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional
     public ApiResponse<?> cancelOrder(Long memberId, Long orderId) {
-        Order order = findOrderByIdAndMemberId(orderId, memberId);
+        Order order = findOrderWithDetails(orderId, memberId);
+        // 경과 시간으로 바뀐 배송 상태를 반영한 뒤 취소 가능 여부 판단
+        deliveryStatusPolicy.sync(order);
         validateOrderStatusForCancellation(order);
 
-        // 재고 복구 요청
-        order.getOrderDetails().forEach(detail -> {
-            productClient.increaseStock(StockUpdateRequest.builder()
-                    .productId(detail.getProductId())
-                    .quantity(detail.getQuantity())
-                    .build());
-        });
-
+        // 재고 복구는 저장 시 발행되는 이벤트로 커밋 후 처리 (OrderEventDispatcher)
         order.cancelOrder();
+        orderRepository.save(order);
         return ApiResponse.success("주문이 성공적으로 취소되었습니다.");
     }
 
     @Override
     @Transactional
     public ApiResponse<?> returnOrder(Long memberId, Long orderId) {
-        Order order = findOrderByIdAndMemberId(orderId, memberId);
+        Order order = findOrderWithDetails(orderId, memberId);
+        deliveryStatusPolicy.sync(order);
 
         // 반품 가능 여부 확인
         if (!OrderStatus.DELIVERED.equals(order.getOrderStatus()) && !OrderStatus.DELIVERED_DAY1.equals(order.getOrderStatus())) {
             throw new BusinessException(ErrorCode.RETURN_NOT_ALLOWED_NOT_DELIVERED);
         }
 
-        if (order.getDayOffset() > 3) { // D+1 이후 반품 불가
-            throw new BusinessException(ErrorCode.RETURN_PERIOD_EXPIRED);
-        }
-        order.requestReturn();
-
-        restoreStock(order);
-
+        // 반품 기한은 배송 완료 시각 기준 (D+1까지 반품 가능)
+        order.requestReturn(deliveryStatusPolicy.returnDeadline(order.getDeliveredDate()));
         order.completeReturn();
+        orderRepository.save(order);
 
         return ApiResponse.success("반품 처리가 완료되었습니다.");
     }
@@ -236,27 +325,28 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
     }
 
-    private Order createAndSaveOrder(MemberResponse member) {
+    // 주문 상세까지 사용하는 경우 (재고 복구, 상세 조회)
+    private Order findOrderWithDetails(Long orderId, Long memberId) {
+        return orderRepository.findWithDetailsByOrderIdAndMemberId(orderId, memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    private Order createAndSaveOrder(MemberResponse member, String intakeTicketId) {
         Order order = Order.builder()
                 .memberId(member.getId())
                 .orderStatus(OrderStatus.ORDER_PENDING)
                 .totalPrice(BigDecimal.ZERO)
                 .dayOffset(0) // 초기값 설정
+                .intakeTicketId(intakeTicketId)
                 .build();
 
+        if (intakeTicketId != null) {
+            // 접수 ID 중복을 재고 선점 전에 확인
+            return orderRepository.saveAndFlush(order);
+        }
         return orderRepository.save(order);
     }
 
-    private void restoreStock(Order order) {
-        order.getOrderDetails().forEach(detail -> {
-            productClient.increaseStock(StockUpdateRequest.builder()
-                    .productId(detail.getProductId())
-                    .quantity(detail.getQuantity())
-                    .build());
-        });
-    }
-
-
     private void validateOrderStatusForCancellation(Order order) {
         if (!OrderStatus.ORDERED.equals(order.getOrderStatus())) {
             throw new BusinessException(ErrorCode.ORDER_CANCELLATION_NOT_ALLOWED);
@@ -304,66 +394,20 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    /**
+     * 회원의 주문 목록 조회
+     *
+     * 동작 방식:
+     * - 주문 읽기 모델(OrderViewService)에서 조회하고, 준비되지 않았으면 DB 커서 조회로 처리합니다.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public ApiResponse<?> getOrdersByMemberId(Long memberId, Long cursor, int size) {
-        // 커서가 0일 경우 1로 설정
-        if (cursor == null || cursor <= 0) {
-            cursor = 1L;
-        }
-
-        int startIndex = (int) ((cursor - 1) * size);
-
-        List<Order> allOrders = orderRepository.findAllByMemberId(memberId, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        // 슬라이싱: 시작 인덱스에서 size만큼 데이터 가져오기
-        List<Order> paginatedOrders = allOrders.stream()
-                .skip(startIndex)
-                .limit(size)
-                .toList();
-
-        // DTO 변환
-        List<OrderResponseDTO> orderResponses = paginatedOrders.stream()
-                .map(OrderResponseDTO::fromEntity)
-                .collect(Collectors.toList());
-
-        // 다음 커서 계산
-        boolean hasMore = allOrders.size() > startIndex + size;
-
-
-        return ApiResponse.success(new PagedResponseDTO<>(
-                cursor,
-                size,
-                orderResponses,
-                hasMore
-        ));
+    public ApiResponse<?> getOrdersByMemberId(Long memberId, String cursor, int size) {
+        return ApiResponse.success(orderViewService.getOrders(memberId, cursor, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ApiResponse<?> getOrderDetailsById(Long orderId, Long memberId) {
-        Order order = findOrderByIdAndMemberId(orderId, memberId);
-
-        OrderDetailsResponseDTO orderDetailsResponse = OrderDetailsResponseDTO.fromEntity(order);
-
-        return ApiResponse.success(orderDetailsResponse);
-    }
-
-    private ProductResponse findProductById(Long productId) {
-        try {
-            ApiResponse<ProductResponse> response = productClient.getProduct(productId);
-
-            if (response == null || response.getData() == null) {
-                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
-            }
-
-            return response.getData();
-        } catch (FeignException e) {
-            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
-        } catch (Exception e) {
-            log.error("상품 조회 중 오류 발생: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        return ApiResponse.success(orderViewService.getOrderDetails(orderId, memberId));
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.jh.orderservice.service.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 키 만료 알림(__keyevent@*__:expired) 중 결제 대기 주문 키(order:{orderId})만 골라
+ * PendingOrderExpiryProcessor에 전달합니다.
+ * - Redis에 notify-keyspace-events 설정이 비어 있으면 기동 시 order.expiry.notify-keyspace-events 값으로 설정합니다.
+ *   (CONFIG 명령을 쓸 수 없는 환경에서는 빈 값으로 두고 Redis 쪽에서 Ex를 설정)
+ */
+@Component
+public class PendingOrderExpiryListener extends KeyExpirationEventMessageListener {
+
+    private final PendingOrderExpiryProcessor pendingOrderExpiryProcessor;
+
+    public PendingOrderExpiryListener(RedisMessageListenerContainer pendingOrderListenerContainer,
+                                      PendingOrderExpiryProcessor pendingOrderExpiryProcessor,
+                                      @Value("${order.expiry.notify-keyspace-events:Ex}") String notifyKeyspaceEvents) {
+        super(pendingOrderListenerContainer);
+        this.pendingOrderExpiryProcessor = pendingOrderExpiryProcessor;
+        setKeyspaceNotificationsConfigParameter(notifyKeyspaceEvents);
+    }
+
+    @Override
+    protected void doHandleMessage(Message message) {
+        Long orderId = PendingOrderStore.parseOrderId(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (orderId != null) {
+            pendingOrderExpiryProcessor.onPendingOrderExpired(orderId);
+        }
+    }
+}
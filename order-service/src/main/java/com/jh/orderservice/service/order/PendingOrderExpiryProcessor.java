@@ -0,0 +1,195 @@
+package com.jh.orderservice.service.order;
+
+import com.jh.orderservice.client.ProductServiceClient;
+import com.jh.orderservice.client.dto.StockHoldReleaseRequest;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 대기 시간이 지난 주문을 만료(EXPIRED) 처리하고 재고 선점을 해제하는 작업
+ * - 결제 대기 키(order:{orderId}) 만료 알림을 PendingOrderExpiryListener가 받아 큐에 모으고,
+ *   order.expiry.flush-interval-ms마다 최대 order.expiry.batch-size건씩 묶어 처리합니다.
+ * - 알림은 모든 인스턴스에 전달되므로, 마감 시각 Sorted Set(order:pending:expiry)에서 ZREM에 성공한
+ *   인스턴스만 처리합니다. (같은 주문을 여러 인스턴스가 중복 처리하지 않음)
+ * - 알림은 연결 끊김/재시작 중에 유실될 수 있으므로, 마감 시각이 order.expiry.sweep-grace-ms 이상 지난 주문을
+ *   스윕이 주기적으로 가져와 같은 방식으로 처리합니다.
+ * - 주문 상태 변경은 조건부 UPDATE 1회, 선점 해제는 product-service 호출 1회로 묶음 단위 처리합니다.
+ * - DB 처리에 실패한 묶음은 Sorted Set에 다시 넣어 스윕이 재처리하고, 선점 해제에 실패한 주문은
+ *   product-service의 선점 만료 스케줄러가 해제합니다.
+ */
+@Component
+@Slf4j
+public class PendingOrderExpiryProcessor {
+
+    // 주문 ID 중 이 호출에서 Sorted Set에서 제거한(가져간) 주문 ID 목록 반환
+    // KEYS[1]=마감 시각 Sorted Set, ARGV=주문 ID 목록
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local claimed = {} " +
+            "for _, id in ipairs(ARGV) do " +
+            "  if redis.call('ZREM', KEYS[1], id) == 1 then claimed[#claimed + 1] = id end " +
+            "end " +
+            "return claimed",
+            List.class);
+
+    // 마감 시각이 기준 이전인 주문을 최대 개수만큼 Sorted Set에서 제거하고 반환
+    // KEYS[1]=마감 시각 Sorted Set, ARGV[1]=기준 시각(epoch ms), ARGV[2]=최대 개수
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end " +
+            "return ids",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderService orderService;
+    private final ProductServiceClient productServiceClient;
+
+    private final Counter expiredCounter;
+    private final Counter sweptCounter;
+
+    // 만료 알림으로 받은 주문 ID (다음 flush에서 묶어서 처리)
+    private final Queue<Long> expiredEvents = new ConcurrentLinkedQueue<>();
+
+    @Value("${order.expiry.batch-size:200}")
+    private int batchSize;
+
+    @Value("${order.expiry.sweep-grace-ms:5000}")
+    private long sweepGraceMs;
+
+    public PendingOrderExpiryProcessor(StringRedisTemplate stringRedisTemplate,
+                                       OrderService orderService,
+                                       ProductServiceClient productServiceClient,
+                                       MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.orderService = orderService;
+        this.productServiceClient = productServiceClient;
+
+        this.expiredCounter = Counter.builder("order.expiry.expired")
+                .description("결제 시간 만료로 EXPIRED 처리된 주문 수")
+                .register(meterRegistry);
+        this.sweptCounter = Counter.builder("order.expiry.swept")
+                .description("만료 알림 없이 스윕으로 가져온 주문 수")
+                .register(meterRegistry);
+        Gauge.builder("order.expiry.queue", expiredEvents, Queue::size)
+                .description("처리 대기 중인 만료 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 대기 키 만료 알림을 받아 다음 flush까지 모아 둡니다. (리스너 스레드에서 DB/외부 호출 없음)
+     */
+    public void onPendingOrderExpired(Long orderId) {
+        expiredEvents.offer(orderId);
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.flush-interval-ms:1000}")
+    public void flushExpiredEvents() {
+        while (!expiredEvents.isEmpty()) {
+            List<Long> batch = new ArrayList<>(batchSize);
+            Long orderId;
+            while (batch.size() < batchSize && (orderId = expiredEvents.poll()) != null) {
+                batch.add(orderId);
+            }
+            expire(claim(batch));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.sweep-interval-ms:30000}")
+    public void sweep() {
+        List<Long> claimed;
+        do {
+            claimed = claimDue(System.currentTimeMillis() - sweepGraceMs);
+            if (!claimed.isEmpty()) {
+                sweptCounter.increment(claimed.size());
+                log.info("[PendingOrderExpiry] Swept {} pending orders without expiry notification", claimed.size());
+                expire(claimed);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    private void expire(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> expired;
+        try {
+            expired = orderService.expirePendingOrders(orderIds);
+        } catch (Exception e) {
+            log.error("[PendingOrderExpiry] Failed to expire {} orders, requeued for sweep", orderIds.size(), e);
+            requeue(orderIds);
+            return;
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        expiredCounter.increment(expired.size());
+
+        try {
+            productServiceClient.releaseStockHolds(new StockHoldReleaseRequest(expired));
+        } catch (FeignException e) {
+            // 해제하지 못한 선점은 product-service의 선점 만료 스케줄러가 해제
+            log.warn("[PendingOrderExpiry] Failed to release stock holds for {} orders ({})", expired.size(), e.getMessage());
+        }
+        log.info("[PendingOrderExpiry] Expired {} of {} pending orders", expired.size(), orderIds.size());
+    }
+
+    private List<Long> claim(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<?> claimed = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(PendingOrderStore.EXPIRY_KEY),
+                orderIds.stream().distinct().map(String::valueOf).toArray());
+        return toOrderIds(claimed);
+    }
+
+    private List<Long> claimDue(long dueBefore) {
+        List<?> claimed = stringRedisTemplate.execute(
+                CLAIM_DUE_SCRIPT,
+                List.of(PendingOrderStore.EXPIRY_KEY),
+                String.valueOf(dueBefore),
+                String.valueOf(batchSize));
+        return toOrderIds(claimed);
+    }
+
+    private void requeue(Collection<Long> orderIds) {
+        double now = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = orderIds.stream()
+                .map(orderId -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(String.valueOf(orderId), now))
+                .collect(Collectors.toSet());
+        try {
+            stringRedisTemplate.opsForZSet().add(PendingOrderStore.EXPIRY_KEY, tuples);
+        } catch (Exception e) {
+            log.error("[PendingOrderExpiry] Failed to requeue orders: {}", orderIds, e);
+        }
+    }
+
+    private static List<Long> toOrderIds(List<?> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .map(value -> Long.valueOf(String.valueOf(value)))
+                .toList();
+    }
+}
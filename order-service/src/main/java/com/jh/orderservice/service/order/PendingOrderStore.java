@@ -0,0 +1,71 @@
+package com.jh.orderservice.service.order;
+
+import com.jh.orderservice.domain.order.cache.PendingOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 결제 대기 주문 저장소 (Redis order:{orderId}, TTL = 결제 대기 시간)
+ * - 키가 있으면 결제 가능한 주문, 없으면 만료되었거나 존재하지 않는 주문입니다.
+ * - 만료 처리 누락에 대비해 주문 ID별 결제 마감 시각을 order:pending:expiry(Sorted Set)에 함께 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingOrderStore {
+
+    public static final String KEY_PREFIX = "order:";
+    public static final String EXPIRY_KEY = "order:pending:expiry";
+
+    private final RedisTemplate<String, PendingOrder> pendingOrderRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(PendingOrder order, Duration ttl) {
+        // 마감 시각을 먼저 기록 (값 저장이 실패해도 만료 스윕이 주문을 정리)
+        stringRedisTemplate.opsForZSet().add(
+                EXPIRY_KEY, String.valueOf(order.orderId()), System.currentTimeMillis() + ttl.toMillis());
+        pendingOrderRedisTemplate.opsForValue().set(key(order.orderId()), order, ttl);
+    }
+
+    /**
+     * 결제 가능 여부만 확인합니다. (값을 읽지 않고 EXISTS 1회)
+     */
+    public boolean exists(Long orderId) {
+        return Boolean.TRUE.equals(pendingOrderRedisTemplate.hasKey(key(orderId)));
+    }
+
+    public PendingOrder get(Long orderId) {
+        return pendingOrderRedisTemplate.opsForValue().get(key(orderId));
+    }
+
+    public void delete(Long orderId) {
+        pendingOrderRedisTemplate.delete(key(orderId));
+    }
+
+    public static String key(Long orderId) {
+        return KEY_PREFIX + orderId;
+    }
+
+    /**
+     * 결제 대기 주문 키(order:{orderId})에서 주문 ID를 꺼냅니다.
+     *
+     * @return 주문 ID (order:intake, order:pending:expiry 등 다른 키는 null)
+     */
+    public static Long parseOrderId(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        String id = key.substring(KEY_PREFIX.length());
+        if (id.isEmpty() || id.length() > 19 || !id.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
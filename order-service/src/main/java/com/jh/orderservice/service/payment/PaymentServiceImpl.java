@@ -1,6 +1,5 @@
 package com.jh.orderservice.service.payment;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jh.common.constant.ErrorCode;
 import com.jh.common.constant.OrderStatus;
 import com.jh.common.constant.PaymentFailureReason;
@@ -8,18 +7,16 @@ import com.jh.common.constant.PaymentStatus;
 import com.jh.common.exception.BusinessException;
 import com.jh.common.util.ApiResponse;
 import com.jh.orderservice.client.ProductServiceClient;
-import com.jh.orderservice.client.dto.StockUpdateRequest;
 import com.jh.orderservice.domain.order.entity.Order;
-import com.jh.orderservice.domain.order.entity.OrderDetail;
 import com.jh.orderservice.domain.order.repository.OrderRepository;
 import com.jh.orderservice.domain.payment.dto.PaymentResponse;
 import com.jh.orderservice.domain.payment.dto.PaymentResponseDto;
 import com.jh.orderservice.domain.payment.entity.Payment;
 import com.jh.orderservice.domain.payment.repository.PaymentRepository;
+import com.jh.orderservice.service.order.PendingOrderStore;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,19 +32,13 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final ProductServiceClient productServiceClient;
+    private final PendingOrderStore pendingOrderStore;
 
 
     private static final Random RANDOM = new Random();
     private static final double PAYMENT_FAILURE_PROBABILITY = 0.2;  // 결제 실패 확률 20%
     private static final double PAYMENT_ATTEMPT_ABORT_PROBABILITY = 0.2;  // 결제 시도 중 이탈율 20%
 
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
-    private static final String ORDER_KEY_PREFIX = "order:";
-
     @Override
     @Transactional
     public PaymentResponseDto processPayment(Long orderId, String paymentMethod) {
@@ -64,7 +55,10 @@ public class PaymentServiceImpl implements PaymentService {
             return new PaymentResponseDto(orderId, payment.getPaymentStatus(), "이미 결제가 처리되었습니다.");
         }
 
-        getOrderFromRedis(orderId);
+        // 결제 대기 시간이 지난 주문은 결제 불가
+        if (!pendingOrderStore.exists(orderId)) {
+            throw new BusinessException(ErrorCode.INVALID_PAYMENT_REQUEST);
+        }
 
         // 주문 조회
         Order order = findOrderById(orderId);
@@ -100,11 +94,13 @@ public class PaymentServiceImpl implements PaymentService {
                     order.updateOrderStatus(OrderStatus.FAILED);
                     payment = payment.withStatus(PaymentStatus.FAILED)
                             .withFailureReason(failureReason);
+                    releaseStockHold(orderId);
                 }
                 case USER_CANCELLED -> {
                     order.updateOrderStatus(OrderStatus.CANCELLED);
                     payment = payment.withStatus(PaymentStatus.FAILED)
                             .withFailureReason(failureReason);
+                    releaseStockHold(orderId);
                 }
             }
 
@@ -125,26 +121,20 @@ public class PaymentServiceImpl implements PaymentService {
         orderRepository.save(order);
 
         try {
-            for (OrderDetail detail : order.getOrderDetails()) {
-                // 각 주문 항목에 대해 재고 차감
-                StockUpdateRequest request = StockUpdateRequest.builder()
-                        .productId(detail.getProductId())
-                        .quantity(detail.getQuantity())
-                        .build();
-                ApiResponse<Boolean> response = productServiceClient.decreaseStock(request);
-
-                if (response == null || !response.getData()) {
-                    throw new BusinessException(ErrorCode.STOCK_DECREASE_FAILED);
-                }
+            // 주문 생성 시 선점한 재고를 확정
+            ApiResponse<Boolean> response = productServiceClient.commitStockHold(orderId);
+
+            if (response == null || !Boolean.TRUE.equals(response.getData())) {
+                throw new BusinessException(ErrorCode.STOCK_DECREASE_FAILED);
             }
-        } catch (BusinessException e) {
+        } catch (BusinessException | FeignException e) {
             // 재고 차감 실패 시 롤백
             order.updateOrderStatus(OrderStatus.FAILED);
             payment = payment.withStatus(PaymentStatus.FAILED)
                     .withFailureReason(PaymentFailureReason.OTHER);
             paymentRepository.save(payment);
             orderRepository.save(order);
-            return new PaymentResponseDto(orderId, PaymentStatus.FAILED, "재고 부족으로 결제 실패");
+            return new PaymentResponseDto(orderId, PaymentStatus.FAILED, "재고 선점이 만료되어 결제 실패");
         }
 
         // 결제 완료 상태를 반환
@@ -158,7 +148,7 @@ public class PaymentServiceImpl implements PaymentService {
      */
     @Override
     public ApiResponse<?> getAllPaymentsForOrder(Long orderId) {
-        List<Payment> payments = paymentRepository.findByOrder_OrderId(orderId);
+        List<Payment> payments = paymentRepository.findWithOrderDetailsByOrderId(orderId);
 
         // 결제 정보가 없다면 예외 처리
         if (payments.isEmpty()) {
@@ -183,20 +173,15 @@ public class PaymentServiceImpl implements PaymentService {
                 .collect(Collectors.toList());
     }
 
-    private Order getOrderFromRedis(Long orderId) {
-        // Redis에서 데이터를 가져옵니다.
-        Object orderFromRedis = redisTemplate.opsForValue().get(ORDER_KEY_PREFIX + orderId);
-
-        if (orderFromRedis == null) {
-            throw new BusinessException(ErrorCode.INVALID_PAYMENT_REQUEST);
-        }
-
+    /**
+     * 결제 실패/취소로 더 이상 결제할 수 없는 주문의 재고 선점 해제
+     * - 해제에 실패해도 선점 만료 시 product-service에서 자동 해제됨
+     */
+    private void releaseStockHold(Long orderId) {
         try {
-            // JSON으로 직렬화된 데이터를 Order 객체로 변환
-            return objectMapper.convertValue(orderFromRedis, Order.class);
-        } catch (Exception e) {
-            // 역직렬화 실패 시 처리
-            throw new BusinessException(ErrorCode.INVALID_PAYMENT_REQUEST);
+            productServiceClient.releaseStockHold(orderId);
+        } catch (FeignException e) {
+            log.warn("재고 선점 해제 실패: 주문 ID {} ({})", orderId, e.getMessage());
         }
     }
 }
\ No newline at end of file
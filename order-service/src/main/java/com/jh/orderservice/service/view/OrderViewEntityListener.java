@@ -0,0 +1,29 @@
+package com.jh.orderservice.service.view;
+
+import com.jh.orderservice.domain.order.entity.Order;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 엔티티가 저장/수정되면 읽기 모델 갱신을 예약합니다. (결제 결과도 주문 상태 변경으로 반영됨)
+ * - Hibernate가 생성하는 리스너이므로 EntityManagerFactory 초기화 시점의 순환 참조를 피하기 위해
+ *   OrderViewProjector는 호출 시점에 꺼냅니다.
+ * - JPQL 일괄 UPDATE는 엔티티 콜백을 거치지 않으므로 호출 측에서 refreshAfterCommit을 직접 호출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewEntityListener {
+
+    private final ObjectProvider<OrderViewProjector> orderViewProjector;
+
+    @PostPersist
+    @PostUpdate
+    public void onOrderChanged(Order order) {
+        orderViewProjector.getObject().refreshAfterCommit(List.of(order.getOrderId()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.jh.orderservice.service.view;
+
+import com.jh.orderservice.domain.order.cache.OrderView;
+import com.jh.orderservice.domain.order.dto.OrderCursor;
+import com.jh.orderservice.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문/결제 상태 변경을 주문 읽기 모델(OrderViewStore)에 반영합니다.
+ * - 변경된 주문 ID를 트랜잭션 단위로 모았다가 커밋 후 별도 스레드 풀에서 한 번에 다시 만듭니다.
+ *   (주문 요청 스레드는 Redis 기록을 기다리지 않음, 롤백된 변경은 반영하지 않음)
+ * - 문서는 커밋된 DB 상태를 fetch join 한 번으로 다시 읽어 만들고, 버전 비교로 늦게 도착한 이전 상태가
+ *   최신 문서를 덮어쓰지 않게 합니다.
+ * - 반영에 실패한 문서는 조회 시 없는 문서로 처리되어 DB에서 다시 만들어지고, 기존 문서는 TTL 안에 정리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewProjector {
+
+    // 트랜잭션에 바인딩하는 변경 주문 ID 목록의 리소스 키
+    private static final Object CHANGED_ORDERS_KEY = new Object();
+
+    private final OrderRepository orderRepository;
+    private final OrderViewStore orderViewStore;
+    private final ThreadPoolTaskExecutor orderViewExecutor;
+
+    // 인덱스를 재구성 중인 회원 (같은 인스턴스에서 중복 재구성 방지)
+    private final Set<Long> indexingMembers = ConcurrentHashMap.newKeySet();
+
+    @Value("${order.read-model.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 주문 문서를 다시 만듭니다. (트랜잭션이 없으면 바로 비동기 반영)
+     */
+    @SuppressWarnings("unchecked")
+    public void refreshAfterCommit(Collection<Long> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshAsync(Set.copyOf(orderIds));
+            return;
+        }
+
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(CHANGED_ORDERS_KEY);
+        if (changed == null) {
+            Set<Long> pending = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(CHANGED_ORDERS_KEY, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_ORDERS_KEY);
+                    if (status == STATUS_COMMITTED) {
+                        refreshAsync(Set.copyOf(pending));
+                    }
+                }
+            });
+            changed = pending;
+        }
+        changed.addAll(orderIds);
+    }
+
+    /**
+     * DB에서 주문을 읽어 문서를 만들고 기록합니다. (조회 시 문서가 없는 주문 보충용)
+     *
+     * @return 만들어진 문서 목록 (DB에 없는 주문은 제외)
+     */
+    public List<OrderView> refresh(Collection<Long> orderIds) {
+        List<OrderView> views = orderRepository.findWithDetailsByOrderIdIn(orderIds).stream()
+                .map(OrderView::from)
+                .toList();
+        try {
+            orderViewStore.putAll(views);
+        } catch (Exception e) {
+            log.warn("[OrderView] Failed to write {} order views ({})", views.size(), e.getMessage());
+        }
+        return views;
+    }
+
+    /**
+     * 회원의 전체 주문 정렬 키를 DB 인덱스에서 읽어 회원 인덱스를 비동기로 재구성합니다.
+     */
+    public void rebuildMemberIndexAsync(Long memberId) {
+        if (!enabled || !indexingMembers.add(memberId)) {
+            return;
+        }
+        try {
+            orderViewExecutor.execute(() -> {
+                try {
+                    List<OrderCursor> entries = orderRepository.findCursorsByMemberId(memberId);
+                    orderViewStore.indexMember(memberId, entries);
+                    log.debug("[OrderView] Indexed {} orders of member {}", entries.size(), memberId);
+                } catch (Exception e) {
+                    log.warn("[OrderView] Failed to index orders of member {} ({})", memberId, e.getMessage());
+                } finally {
+                    indexingMembers.remove(memberId);
+                }
+            });
+        } catch (RuntimeException e) {
+            indexingMembers.remove(memberId);
+            throw e;
+        }
+    }
+
+    private void refreshAsync(Set<Long> orderIds) {
+        orderViewExecutor.execute(() -> {
+            try {
+                refresh(orderIds);
+            } catch (Exception e) {
+                log.warn("[OrderView] Failed to refresh orders {} ({})", orderIds, e.getMessage());
+            }
+        });
+    }
+}
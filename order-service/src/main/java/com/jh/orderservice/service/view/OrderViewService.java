@@ -0,0 +1,34 @@
+package com.jh.orderservice.service.view;
+
+import com.jh.common.domain.page.CursorPagedResponseDTO;
+import com.jh.orderservice.domain.order.dto.OrderDetailsResponseDTO;
+import com.jh.orderservice.domain.order.dto.OrderResponseDTO;
+
+public interface OrderViewService {
+
+    /**
+     * 회원의 주문 목록을 최신순으로 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param cursor   이전 응답의 cursor (없거나 "0"이면 첫 페이지)
+     * @param size     한 페이지에 표시할 주문 수 (최대 100)
+     * @return 주문 목록과 다음 커서 (마지막 페이지면 cursor는 null)
+     *
+     * 사용 예:
+     * - 주문 목록 화면 (GET /orders), 읽기 모델에서 조회하고 준비되지 않은 회원은 DB에서 조회
+     * - 읽기 모델과 DB가 같은 커서 형식을 사용하므로, 페이지 중간에 조회 경로가 바뀌어도 이어서 조회 가능
+     */
+    CursorPagedResponseDTO<OrderResponseDTO> getOrders(Long memberId, String cursor, int size);
+
+    /**
+     * 회원의 특정 주문 상세를 조회합니다.
+     *
+     * @param orderId  주문 ID
+     * @param memberId 회원 ID (다른 회원의 주문이면 ORDER_NOT_FOUND)
+     * @return 주문 상세
+     *
+     * 사용 예:
+     * - 주문 상세 화면 (GET /orders/{orderId}), 읽기 모델에 없으면 DB에서 조회한 뒤 읽기 모델에 기록
+     */
+    OrderDetailsResponseDTO getOrderDetails(Long orderId, Long memberId);
+}
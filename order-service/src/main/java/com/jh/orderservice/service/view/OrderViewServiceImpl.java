@@ -0,0 +1,181 @@
+package com.jh.orderservice.service.view;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.domain.page.CursorPagedResponseDTO;
+import com.jh.common.exception.BusinessException;
+import com.jh.orderservice.domain.order.cache.OrderView;
+import com.jh.orderservice.domain.order.dto.OrderCursor;
+import com.jh.orderservice.domain.order.dto.OrderDetailDTO;
+import com.jh.orderservice.domain.order.dto.OrderDetailsResponseDTO;
+import com.jh.orderservice.domain.order.dto.OrderLineView;
+import com.jh.orderservice.domain.order.dto.OrderResponseDTO;
+import com.jh.orderservice.domain.order.dto.OrderSummaryView;
+import com.jh.orderservice.domain.order.entity.Order;
+import com.jh.orderservice.domain.order.repository.OrderDetailRepository;
+import com.jh.orderservice.domain.order.repository.OrderRepository;
+import com.jh.orderservice.service.order.DeliveryStatusPolicy;
+import com.jh.orderservice.service.order.DeliveryStatusPolicy.DeliveryState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewServiceImpl implements OrderViewService {
+
+    private static final int MAX_PAGE_SIZE = 100; // 주문 목록 한 페이지 최대 건수
+
+    private final OrderViewStore orderViewStore;
+    private final OrderViewProjector orderViewProjector;
+    private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final DeliveryStatusPolicy deliveryStatusPolicy;
+
+    @Value("${order.read-model.enabled:true}")
+    private boolean readModelEnabled;
+
+    /**
+     * 회원의 주문 목록을 최신순으로 조회합니다.
+     *
+     * 동작 방식:
+     * - 회원 인덱스가 준비되어 있으면 인덱스에서 커서 이후 size + 1건의 주문 ID를 읽고, 문서를 파이프라인 한 번으로 조회합니다.
+     *   (문서가 없는 주문만 DB에서 fetch join 한 번으로 보충)
+     * - 인덱스가 없으면 이번 요청은 DB 커서 조회로 처리하고, 회원 인덱스 재구성을 비동기로 시작합니다.
+     * - Redis 오류 시에도 DB 커서 조회로 처리합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPagedResponseDTO<OrderResponseDTO> getOrders(Long memberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        OrderCursor position = OrderCursor.decode(cursor);
+
+        if (readModelEnabled) {
+            try {
+                if (orderViewStore.isIndexed(memberId)) {
+                    return getOrdersFromReadModel(memberId, position, pageSize);
+                }
+                orderViewProjector.rebuildMemberIndexAsync(memberId);
+            } catch (DataAccessException e) {
+                log.warn("[OrderView] Read model unavailable, reading orders of member {} from DB ({})",
+                        memberId, e.getMessage());
+            }
+        }
+        return getOrdersFromDatabase(memberId, position, pageSize);
+    }
+
+    /**
+     * 회원의 특정 주문 상세를 조회합니다.
+     *
+     * 동작 방식:
+     * - 읽기 모델 문서가 있으면 DB를 조회하지 않습니다.
+     * - 없으면 주문과 주문 상세를 fetch join 한 번으로 읽어 응답하고, 문서를 기록합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderDetailsResponseDTO getOrderDetails(Long orderId, Long memberId) {
+        if (readModelEnabled) {
+            try {
+                OrderView view = orderViewStore.get(orderId);
+                if (view != null) {
+                    if (!memberId.equals(view.memberId())) {
+                        throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
+                    }
+                    return view.toDetails(deliveryStateOf(view));
+                }
+            } catch (DataAccessException e) {
+                log.warn("[OrderView] Read model unavailable, reading order {} from DB ({})", orderId, e.getMessage());
+            }
+        }
+
+        Order order = orderRepository.findWithDetailsByOrderIdAndMemberId(orderId, memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        OrderView view = OrderView.from(order);
+        if (readModelEnabled) {
+            try {
+                orderViewStore.putAll(List.of(view));
+            } catch (DataAccessException e) {
+                log.warn("[OrderView] Failed to write order view {} ({})", orderId, e.getMessage());
+            }
+        }
+        return view.toDetails(deliveryStateOf(view));
+    }
+
+    private CursorPagedResponseDTO<OrderResponseDTO> getOrdersFromReadModel(Long memberId, OrderCursor position,
+                                                                          int pageSize) {
+        List<OrderCursor> entries = orderViewStore.findEntries(memberId, position, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        List<Long> orderIds = entries.stream().map(OrderCursor::orderId).toList();
+        Map<Long, OrderView> views = new HashMap<>(orderViewStore.getAll(orderIds));
+        List<Long> missing = orderIds.stream().filter(orderId -> !views.containsKey(orderId)).toList();
+        if (!missing.isEmpty()) {
+            orderViewProjector.refresh(missing).forEach(view -> views.put(view.orderId(), view));
+        }
+
+        List<OrderResponseDTO> orderResponses = orderIds.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .filter(view -> memberId.equals(view.memberId()))
+                .map(view -> view.toSummary(deliveryStateOf(view)))
+                .toList();
+
+        String nextCursor = hasMore ? entries.get(entries.size() - 1).encode() : null;
+        return CursorPagedResponseDTO.of(orderResponses, nextCursor, pageSize, hasMore);
+    }
+
+    /**
+     * DB 커서 조회
+     * - (member_id, created_at, order_id) 인덱스를 커서 위치부터 size + 1건만 읽습니다. (앞 페이지를 건너뛰며 읽지 않음)
+     * - 주문과 주문 상세를 엔티티 대신 프로젝션으로 조회합니다. (주문 목록 1회 + 상세 1회)
+     */
+    private CursorPagedResponseDTO<OrderResponseDTO> getOrdersFromDatabase(Long memberId, OrderCursor position,
+                                                                         int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<OrderSummaryView> orders = position == null
+                ? orderRepository.findSummariesByMemberId(memberId, limit)
+                : orderRepository.findSummariesByMemberIdBefore(memberId, position.createdAt(), position.orderId(), limit);
+
+        boolean hasMore = orders.size() > pageSize;
+        if (hasMore) {
+            orders = orders.subList(0, pageSize);
+        }
+
+        Map<Long, List<OrderDetailDTO>> detailsByOrderId = orders.isEmpty()
+                ? Map.of()
+                : orderDetailRepository.findLinesByOrderIdIn(orders.stream().map(OrderSummaryView::orderId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderLineView::orderId,
+                                Collectors.mapping(OrderLineView::toDto, Collectors.toList())));
+
+        List<OrderResponseDTO> orderResponses = orders.stream()
+                .map(order -> OrderResponseDTO.of(order,
+                        deliveryStatusPolicy.statusOf(order.orderStatus(), order.orderedAt(), order.deliveredDate()),
+                        detailsByOrderId.getOrDefault(order.orderId(), List.of())))
+                .toList();
+
+        String nextCursor = hasMore ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return CursorPagedResponseDTO.of(orderResponses, nextCursor, pageSize, hasMore);
+    }
+
+    // 저장된 상태가 아닌 현재 시각 기준 배송 상태
+    private DeliveryState deliveryStateOf(OrderView view) {
+        return deliveryStatusPolicy.resolve(view.orderStatus(), view.orderedAt(), view.deliveredDate(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,253 @@
+package com.jh.orderservice.service.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jh.orderservice.domain.order.cache.OrderView;
+import com.jh.orderservice.domain.order.dto.OrderCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 읽기 모델 저장소 (Redis)
+ * - order:view:{orderId}                : 주문 문서 Hash (version, doc)
+ * - order:view:member:{memberId}        : 회원별 주문 인덱스 (Sorted Set, score 0, 멤버 = OrderCursor.sortKey)
+ * - order:view:member:{memberId}:indexed : 회원 인덱스가 DB의 모든 주문을 포함하고 있음을 나타내는 표시
+ * 문서와 인덱스는 order.read-model.ttl-hours 동안 유지되고, 만료되면 DB에서 다시 만들어집니다.
+ * 문서 기록 스크립트는 기동 시 한 번 적재(SCRIPT LOAD)하고 EVALSHA로 실행하며, NOSCRIPT가 나면 다시 적재한 뒤 한 번만 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewStore {
+
+    static final String VIEW_KEY_PREFIX = "order:view:";
+    static final String MEMBER_INDEX_PREFIX = "order:view:member:";
+    private static final String INDEXED_SUFFIX = ":indexed";
+    private static final int INDEX_CHUNK_SIZE = 1000;
+
+    // 기존 문서보다 새로운 버전일 때만 문서를 기록하고 회원 인덱스에 추가 (기록 시 1, 건너뛰면 0)
+    // KEYS[1]=주문 문서, KEYS[2]=회원 인덱스, ARGV[1]=버전, ARGV[2]=문서(JSON), ARGV[3]=TTL(초), ARGV[4]=정렬 키
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of(
+            "local current = redis.call('HGET', KEYS[1], 'version') " +
+            "if current and tonumber(current) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'version', ARGV[1], 'doc', ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('ZADD', KEYS[2], 0, ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+    private static final byte[] PUT_SCRIPT_SHA = bytes(PUT_SCRIPT.getSha1());
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.read-model.ttl-hours:72}")
+    private long ttlHours;
+
+    /**
+     * 문서 기록 스크립트를 Redis에 미리 적재합니다.
+     * - 실패해도 기동은 계속하고, 첫 기록 시 NOSCRIPT 처리로 다시 적재합니다.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void preloadScript() {
+        try {
+            loadPutScript();
+            log.info("[OrderView] Loaded put script ({})", PUT_SCRIPT.getSha1());
+        } catch (RuntimeException e) {
+            log.warn("[OrderView] Failed to preload put script", e);
+        }
+    }
+
+    public OrderView get(Long orderId) {
+        return getAll(List.of(orderId)).get(orderId);
+    }
+
+    /**
+     * 여러 주문 문서를 파이프라인 한 번으로 조회합니다.
+     *
+     * @return 주문 ID → 문서 (없는 주문은 제외)
+     */
+    public Map<Long, OrderView> getAll(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> docs = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long orderId : orderIds) {
+                connection.hashCommands().hGet(bytes(viewKey(orderId)), bytes("doc"));
+            }
+            return null;
+        });
+
+        Map<Long, OrderView> views = new HashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            OrderView view = fromJson((String) docs.get(i));
+            if (view != null) {
+                views.put(orderIds.get(i), view);
+            }
+        }
+        return views;
+    }
+
+    /**
+     * 문서를 기록하고 회원 인덱스에 추가합니다. (문서마다 버전 비교 스크립트, 파이프라인 한 번)
+     * - Redis 재시작/SCRIPT FLUSH로 NOSCRIPT가 나면 스크립트를 다시 적재하고 파이프라인을 한 번만 재시도합니다.
+     *   (버전 비교로 이미 기록된 문서는 건너뛰므로 재실행해도 안전)
+     */
+    public void putAll(Collection<OrderView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            pipelinePut(views);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            log.warn("[OrderView] NOSCRIPT, reloading put script");
+            loadPutScript();
+            pipelinePut(views);
+        }
+    }
+
+    private void pipelinePut(Collection<OrderView> views) {
+        byte[] ttlSeconds = bytes(String.valueOf(ttl().toSeconds()));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OrderView view : views) {
+                connection.scriptingCommands().evalSha(PUT_SCRIPT_SHA, ReturnType.INTEGER, 2,
+                        bytes(viewKey(view.orderId())),
+                        bytes(memberIndexKey(view.memberId())),
+                        bytes(String.valueOf(view.version())),
+                        bytes(toJson(view)),
+                        ttlSeconds,
+                        bytes(view.cursor().sortKey()));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 회원 인덱스가 DB의 모든 주문을 포함하는지 확인합니다.
+     */
+    public boolean isIndexed(Long memberId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(memberIndexKey(memberId) + INDEXED_SUFFIX));
+    }
+
+    /**
+     * DB에서 읽은 회원의 전체 주문 정렬 키를 인덱스에 추가하고 완료 표시를 남깁니다.
+     * - 기존 인덱스를 지우지 않고 합치므로, 재구성 중에 생성된 주문이 빠지지 않습니다.
+     */
+    public void indexMember(Long memberId, List<OrderCursor> entries) {
+        String indexKey = memberIndexKey(memberId);
+        for (int from = 0; from < entries.size(); from += INDEX_CHUNK_SIZE) {
+            Set<ZSetOperations.TypedTuple<String>> chunk = entries
+                    .subList(from, Math.min(from + INDEX_CHUNK_SIZE, entries.size())).stream()
+                    .map(entry -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(entry.sortKey(), 0.0))
+                    .collect(Collectors.toSet());
+            stringRedisTemplate.opsForZSet().add(indexKey, chunk);
+        }
+        stringRedisTemplate.expire(indexKey, ttl());
+        stringRedisTemplate.opsForValue().set(indexKey + INDEXED_SUFFIX, String.valueOf(entries.size()), ttl());
+    }
+
+    /**
+     * 회원 인덱스에서 커서 이후(더 오래된) 주문을 최신순으로 조회합니다.
+     *
+     * @param cursor 이전 페이지 마지막 주문 (null이면 첫 페이지)
+     * @param limit  최대 개수
+     */
+    public List<OrderCursor> findEntries(Long memberId, OrderCursor cursor, int limit) {
+        Range<String> range = cursor == null
+                ? Range.unbounded()
+                : Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(cursor.sortKey()));
+        Set<String> sortKeys = stringRedisTemplate.opsForZSet()
+                .reverseRangeByLex(memberIndexKey(memberId), range, Limit.limit().count(limit));
+        if (sortKeys == null) {
+            return List.of();
+        }
+        return sortKeys.stream().map(OrderCursor::fromSortKey).toList();
+    }
+
+    private void loadPutScript() {
+        String sha = stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(bytes(PUT_SCRIPT.getScriptAsString())));
+        if (!PUT_SCRIPT.getSha1().equalsIgnoreCase(sha)) {
+            log.warn("[OrderView] Put script SHA mismatch: local {}, redis {}", PUT_SCRIPT.getSha1(), sha);
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        if (e instanceof RedisPipelineException pipelineException) {
+            for (Object result : pipelineException.getPipelineResult()) {
+                if (result instanceof Throwable failure && isNoScript(failure)) {
+                    return true;
+                }
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(ttlHours);
+    }
+
+    private String toJson(OrderView view) {
+        try {
+            return objectMapper.writeValueAsString(view);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order view " + view.orderId(), e);
+        }
+    }
+
+    private OrderView fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, OrderView.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 바뀐 문서는 없는 것으로 보고 DB에서 다시 만듦
+            log.warn("[OrderView] Unreadable order view document: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String viewKey(Long orderId) {
+        return VIEW_KEY_PREFIX + orderId;
+    }
+
+    static String memberIndexKey(Long memberId) {
+        return MEMBER_INDEX_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.jh.orderservice.domain.order.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PendingOrder 바이너리 형식의 왕복 변환과 버전 바이트 검증을 확인합니다.
+ */
+class PendingOrderSerializerTest {
+
+    private final PendingOrderSerializer serializer = new PendingOrderSerializer();
+
+    @Test
+    void 직렬화한_값을_그대로_복원한다() {
+        PendingOrder order = new PendingOrder(1_234_567_890_123L, 42L, new BigDecimal("30500.50"), 1_700_000_000_000L,
+                List.of(new PendingOrder.Line(10L, 2, new BigDecimal("10000.25")),
+                        new PendingOrder.Line(11L, 1, new BigDecimal("10500"))));
+
+        PendingOrder restored = serializer.deserialize(serializer.serialize(order));
+
+        assertThat(restored).isEqualTo(order);
+        // BigDecimal은 scale까지 같아야 equals가 성립
+        assertThat(restored.totalPrice().scale()).isEqualTo(2);
+        assertThat(restored.lines().get(1).unitPrice().scale()).isZero();
+    }
+
+    @Test
+    void 음수_금액과_빈_라인도_복원한다() {
+        PendingOrder order = new PendingOrder(1L, 2L, new BigDecimal("-0.001"), 0L, List.of());
+
+        PendingOrder restored = serializer.deserialize(serializer.serialize(order));
+
+        assertThat(restored).isEqualTo(order);
+    }
+
+    @Test
+    void 비어_있는_금액과_회원은_기본값으로_기록한다() {
+        PendingOrder order = new PendingOrder(1L, null, null, 0L,
+                List.of(new PendingOrder.Line(10L, 1, null)));
+
+        PendingOrder restored = serializer.deserialize(serializer.serialize(order));
+
+        assertThat(restored.memberId()).isZero();
+        assertThat(restored.totalPrice()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(restored.lines().get(0).unitPrice()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void 첫_바이트는_형식_버전이다() {
+        byte[] bytes = serializer.serialize(new PendingOrder(1L, 2L, BigDecimal.ONE, 0L, List.of()));
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+    }
+
+    @Test
+    void 알_수_없는_버전은_거부한다() {
+        byte[] bytes = serializer.serialize(new PendingOrder(1L, 2L, BigDecimal.ONE, 0L, List.of()));
+        bytes[0] = 2;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void 잘린_값은_거부한다() {
+        byte[] bytes = serializer.serialize(new PendingOrder(1L, 2L, BigDecimal.ONE, 0L,
+                List.of(new PendingOrder.Line(10L, 1, BigDecimal.TEN))));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 경계_안의_scale과_길이는_그대로_복원한다() {
+        BigDecimal maxScale = new BigDecimal(BigInteger.ONE, Byte.MAX_VALUE);
+        BigDecimal minScale = new BigDecimal(BigInteger.ONE, Byte.MIN_VALUE);
+        BigDecimal longest = new BigDecimal(BigInteger.ONE.shiftLeft(255 * 8 - 2));
+        PendingOrder order = new PendingOrder(1L, 2L, maxScale, 0L,
+                List.of(new PendingOrder.Line(10L, 1, minScale), new PendingOrder.Line(11L, 1, longest)));
+
+        PendingOrder restored = serializer.deserialize(serializer.serialize(order));
+
+        assertThat(restored).isEqualTo(order);
+    }
+
+    @Test
+    void 범위를_벗어난_scale은_거부한다() {
+        PendingOrder tooPrecise = new PendingOrder(1L, 2L, new BigDecimal(BigInteger.ONE, Byte.MAX_VALUE + 1), 0L, List.of());
+        PendingOrder tooCoarse = new PendingOrder(1L, 2L, new BigDecimal(BigInteger.ONE, Byte.MIN_VALUE - 1), 0L, List.of());
+
+        assertThatThrownBy(() -> serializer.serialize(tooPrecise))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.serialize(tooCoarse))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 길이가_255바이트를_넘는_금액은_거부한다() {
+        BigDecimal tooLong = new BigDecimal(BigInteger.ONE.shiftLeft(255 * 8));
+        PendingOrder order = new PendingOrder(1L, 2L, BigDecimal.ONE, 0L,
+                List.of(new PendingOrder.Line(10L, 1, tooLong)));
+
+        assertThatThrownBy(() -> serializer.serialize(order))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void null과_빈_값은_null로_처리한다() {
+        assertThat(serializer.serialize(null)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.jh.orderservice.domain.order.dto;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 목록 커서의 인코딩/디코딩 왕복 변환과 잘못된 커서 거부를 확인합니다.
+ */
+class OrderCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 7, 1, 12, 30, 15, 123_456_789);
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        OrderCursor cursor = new OrderCursor(CREATED_AT, 9_000_000_000_001L);
+
+        OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 인코딩_결과는_URL에_그대로_쓸_수_있다() {
+        String encoded = new OrderCursor(CREATED_AT, 1L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "0"})
+    void 비어_있거나_0이면_첫_페이지다(String cursor) {
+        assertThat(OrderCursor.decode(cursor)).isNull();
+        assertThat(OrderCursor.decode(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "not a cursor", "%%%"})
+    void Base64가_아니면_거부한다(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1719837015:0", "1719837015:0:1:2", "1719837015:0:", "a:b:c", "1719837015:0:x",
+            "1719837015:1000000000:1", "99999999999999999:0:1"})
+    void 형식이_맞지_않는_값은_거부한다(String raw) {
+        assertInvalid(encodeRaw(raw));
+    }
+
+    @Test
+    void 변조된_커서는_거부한다() {
+        String raw = new String(Base64.getUrlDecoder().decode(new OrderCursor(CREATED_AT, 1L).encode()),
+                StandardCharsets.UTF_8);
+
+        assertInvalid(encodeRaw(raw + ":9"));
+        assertInvalid(encodeRaw(raw.replace(":1", ":-")));
+    }
+
+    @Test
+    void 정렬_키를_그대로_복원한다() {
+        // 정렬 키는 마이크로초 단위까지만 기록
+        OrderCursor cursor = new OrderCursor(CREATED_AT.withNano(123_456_000), 42L);
+
+        assertThat(cursor.sortKey()).isEqualTo(String.format("%016d:%019d", OrderCursor.toMicros(CREATED_AT), 42L));
+        assertThat(OrderCursor.fromSortKey(cursor.sortKey())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 정렬_키의_문자열_순서는_생성_시각_주문_ID_순서와_같다() {
+        String earlier = new OrderCursor(CREATED_AT, 999L).sortKey();
+        String sameTimeLargerId = new OrderCursor(CREATED_AT, 1_000L).sortKey();
+        String later = new OrderCursor(CREATED_AT.plusNanos(1_000), 1L).sortKey();
+
+        assertThat(earlier).isLessThan(sameTimeLargerId);
+        assertThat(sameTimeLargerId).isLessThan(later);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> OrderCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+}
@@ -0,0 +1,177 @@
+package com.jh.orderservice.service.order;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.constant.OrderStatus;
+import com.jh.common.exception.BusinessException;
+import com.jh.orderservice.domain.order.entity.Order;
+import com.jh.orderservice.service.order.DeliveryStatusPolicy.DeliveryState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 경과 시간 기준 배송 상태 계산의 경계값과, 저장된 상태보다 이전 단계로 되돌리지 않는지 확인합니다.
+ * - 기준: 배송 시작 24시간, 배송 완료 48시간, 배송 완료 후 1일 24시간, 반품 가능 기간 48시간 (기본 설정과 동일)
+ */
+class DeliveryStatusPolicyTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2024, 7, 1, 9, 0);
+    private static final LocalDateTime SHIPPING_AT = ORDERED_AT.plusHours(24);
+    private static final LocalDateTime DELIVERED_AT = ORDERED_AT.plusHours(48);
+    private static final LocalDateTime DAY1_AT = DELIVERED_AT.plusHours(24);
+
+    private final DeliveryStatusPolicy policy = new DeliveryStatusPolicy();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(policy, "shippingAfter", Duration.ofHours(24));
+        ReflectionTestUtils.setField(policy, "deliveredAfter", Duration.ofHours(48));
+        ReflectionTestUtils.setField(policy, "day1After", Duration.ofHours(24));
+        ReflectionTestUtils.setField(policy, "returnWindow", Duration.ofHours(48));
+    }
+
+    @Test
+    void 배송_시작_기준_직전까지는_주문_완료다() {
+        assertThat(resolve(OrderStatus.ORDERED, SHIPPING_AT.minusNanos(1)))
+                .isEqualTo(new DeliveryState(OrderStatus.ORDERED, null));
+    }
+
+    @Test
+    void 배송_시작_기준_시각부터_배송_중이다() {
+        assertThat(resolve(OrderStatus.ORDERED, SHIPPING_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.SHIPPING, null));
+    }
+
+    @Test
+    void 배송_완료_기준_직전까지는_배송_중이다() {
+        assertThat(resolve(OrderStatus.ORDERED, DELIVERED_AT.minusNanos(1)).status()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(resolve(OrderStatus.SHIPPING, DELIVERED_AT.minusNanos(1)).status()).isEqualTo(OrderStatus.SHIPPING);
+    }
+
+    @Test
+    void 배송_완료_기준_시각부터_배송_완료이고_완료_시각은_기준_시각이다() {
+        // 조회 시각과 관계없이 배송 완료 시각 = orderedAt + delivered-after
+        assertThat(resolve(OrderStatus.ORDERED, DELIVERED_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED, DELIVERED_AT));
+        assertThat(resolve(OrderStatus.SHIPPING, DELIVERED_AT.plusHours(3)))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED, DELIVERED_AT));
+    }
+
+    @Test
+    void 배송_완료_후_1일_기준_직전까지는_배송_완료다() {
+        assertThat(resolve(OrderStatus.ORDERED, DAY1_AT.minusNanos(1)))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED, DELIVERED_AT));
+    }
+
+    @Test
+    void 배송_완료_후_1일_기준_시각부터_DELIVERED_DAY1이다() {
+        assertThat(resolve(OrderStatus.ORDERED, DAY1_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED_DAY1, DELIVERED_AT));
+        assertThat(policy.resolve(OrderStatus.DELIVERED, ORDERED_AT, DELIVERED_AT, DAY1_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED_DAY1, DELIVERED_AT));
+    }
+
+    @Test
+    void 저장된_배송_중_상태를_주문_완료로_되돌리지_않는다() {
+        // 기준 시간이 늘어나 계산상 아직 배송 시작 전이어도 SHIPPING 유지
+        assertThat(resolve(OrderStatus.SHIPPING, ORDERED_AT.plusHours(1)).status()).isEqualTo(OrderStatus.SHIPPING);
+        assertThat(resolve(OrderStatus.SHIPPING, SHIPPING_AT).status()).isEqualTo(OrderStatus.SHIPPING);
+    }
+
+    @Test
+    void 저장된_배송_완료_상태는_완료_시각_기준으로만_판단한다() {
+        LocalDateTime storedDelivered = DELIVERED_AT.plusHours(5);
+
+        assertThat(policy.resolve(OrderStatus.DELIVERED, ORDERED_AT, storedDelivered, ORDERED_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED, storedDelivered));
+        assertThat(policy.resolve(OrderStatus.DELIVERED_DAY1, ORDERED_AT, DELIVERED_AT, ORDERED_AT))
+                .isEqualTo(new DeliveryState(OrderStatus.DELIVERED_DAY1, DELIVERED_AT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OrderStatus.class, names = {"ORDERED", "SHIPPING", "DELIVERED"}, mode = EnumSource.Mode.EXCLUDE)
+    void 배송_진행_외_상태는_그대로_둔다(OrderStatus stored) {
+        assertThat(policy.resolve(stored, ORDERED_AT, null, DAY1_AT.plusDays(30)))
+                .isEqualTo(new DeliveryState(stored, null));
+    }
+
+    @Test
+    void 결제_완료_시각이_없으면_저장된_상태를_유지한다() {
+        assertThat(policy.resolve(OrderStatus.ORDERED, null, null, DAY1_AT.plusDays(30)))
+                .isEqualTo(new DeliveryState(OrderStatus.ORDERED, null));
+        assertThat(policy.resolve(OrderStatus.SHIPPING, null, null, DAY1_AT.plusDays(30)))
+                .isEqualTo(new DeliveryState(OrderStatus.SHIPPING, null));
+    }
+
+    @Test
+    void 일괄_전환_기준_시각은_설정된_경과_시간만큼_이전이다() {
+        LocalDateTime now = DAY1_AT;
+
+        assertThat(policy.shippingThreshold(now)).isEqualTo(now.minusHours(24));
+        assertThat(policy.deliveredThreshold(now)).isEqualTo(now.minusHours(48));
+        assertThat(policy.day1Threshold(now)).isEqualTo(now.minusHours(24));
+    }
+
+    @Test
+    void 반품_기한은_배송_완료_시각에_반품_가능_기간을_더한_시각이다() {
+        // 조회 시각이나 주문 시각이 아닌 배송 완료 시각 기준
+        assertThat(policy.returnDeadline(DELIVERED_AT)).isEqualTo(DELIVERED_AT.plusHours(48));
+
+        LocalDateTime storedDelivered = DELIVERED_AT.plusHours(5);
+        assertThat(policy.returnDeadline(storedDelivered)).isEqualTo(storedDelivered.plusHours(48));
+    }
+
+    @Test
+    void 배송_완료_시각이_없으면_반품_기한도_없다() {
+        assertThat(policy.returnDeadline(null)).isNull();
+    }
+
+    @Test
+    void 반품_기한_전이면_반품을_요청할_수_있다() {
+        Order order = deliveredOrder(LocalDateTime.now().minusHours(47));
+
+        order.requestReturn(policy.returnDeadline(order.getDeliveredDate()));
+
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.RETURN_REQUESTED);
+    }
+
+    @Test
+    void 반품_기한이_지나면_반품을_요청할_수_없다() {
+        Order order = deliveredOrder(LocalDateTime.now().minusHours(48));
+
+        assertThatThrownBy(() -> order.requestReturn(policy.returnDeadline(order.getDeliveredDate())))
+                .isInstanceOf(BusinessException.class)
+                .extracting("message")
+                .isEqualTo(ErrorCode.RETURN_PERIOD_EXPIRED.getMessage());
+    }
+
+    @Test
+    void 배송_완료_시각이_없으면_반품을_요청할_수_없다() {
+        Order order = deliveredOrder(null);
+
+        assertThatThrownBy(() -> order.requestReturn(policy.returnDeadline(order.getDeliveredDate())))
+                .isInstanceOf(BusinessException.class)
+                .extracting("message")
+                .isEqualTo(ErrorCode.RETURN_PERIOD_EXPIRED.getMessage());
+    }
+
+    private Order deliveredOrder(LocalDateTime deliveredDate) {
+        return Order.builder()
+                .memberId(1L)
+                .orderStatus(OrderStatus.DELIVERED_DAY1)
+                .deliveredDate(deliveredDate)
+                .build();
+    }
+
+    private DeliveryState resolve(OrderStatus stored, LocalDateTime now) {
+        return policy.resolve(stored, ORDERED_AT, null, now);
+    }
+}
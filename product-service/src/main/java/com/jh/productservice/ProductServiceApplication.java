@@ -2,11 +2,13 @@ package com.jh.productservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.jh.common",
         "com.jh.userservice",
         "com.jh.productservice",
 })
+@EnableScheduling
 public class ProductServiceApplication {
 
     public static void main(String[] args) {
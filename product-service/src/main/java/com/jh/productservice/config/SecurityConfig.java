@@ -25,6 +25,7 @@ public class SecurityConfig {
                 .requestMatchers("/products/**").permitAll()
                 .requestMatchers("/wishlist/**").permitAll()
                 .requestMatchers("/events/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/metrics/**").permitAll()
                 .anyRequest().authenticated());
 
         return http.build();
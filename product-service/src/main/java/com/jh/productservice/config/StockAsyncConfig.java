@@ -0,0 +1,30 @@
+package com.jh.productservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 재고 API의 후속 작업(DB 조회 후 Redis 적재 등)을 처리하는 스레드 풀
+ * - Redis 왕복은 Redisson 이벤트 루프에서 완료되므로, 이 풀은 블로킹이 필요한 작업에만 사용합니다.
+ * - 큐가 가득 차면 요청을 거절하여 DB 부하가 요청 스레드로 번지지 않도록 합니다.
+ */
+@Configuration
+public class StockAsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor stockTaskExecutor(
+            @Value("${stock.async.core-pool-size:4}") int corePoolSize,
+            @Value("${stock.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${stock.async.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stock-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -3,6 +3,7 @@ package com.jh.productservice.controller;
 import com.jh.common.util.ApiResponse;
 import com.jh.productservice.domain.product.dto.*;
 import com.jh.productservice.service.event.EventService;
+import com.jh.productservice.service.stock.StockStripeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final StockStripeService stockStripeService;
 
     @PostMapping("/event-product")
     public ResponseEntity<ApiResponse<?>> addEventToProduct(@RequestBody EventProductAddRequest request) {
@@ -25,6 +27,15 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/event-product/{eventProductId}/stock/stripes")
+    public ResponseEntity<ApiResponse<Integer>> updateEventProductStockStripes(
+            @PathVariable Long eventProductId,
+            @RequestBody StockStripeUpdateRequest request) {
+        log.info("Updating stock stripes for event product: {}, stripes: {}", eventProductId, request.getStripes());
+        int stripes = request.getStripes() != null ? request.getStripes() : 0;
+        return ResponseEntity.ok(ApiResponse.success(stockStripeService.updateEventProductStripes(eventProductId, stripes)));
+    }
+
     @PostMapping("/create")
     public ResponseEntity<ApiResponse<?>> createEvent(@RequestBody EventAddRequest request) {
         log.info("Creating event with name: {}, discountRate: {}, startDate: {}, endDate: {}",
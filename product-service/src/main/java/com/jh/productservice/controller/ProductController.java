@@ -3,14 +3,29 @@ package com.jh.productservice.controller;
 import com.jh.common.domain.page.PagedResponseDTO;
 import com.jh.common.util.ApiResponse;
 import com.jh.productservice.domain.product.dto.EventInfoDTO;
+import com.jh.productservice.domain.product.dto.ProductQuoteDTO;
+import com.jh.productservice.domain.product.dto.ProductQuoteItem;
+import com.jh.productservice.domain.product.dto.ProductQuoteRequest;
 import com.jh.productservice.domain.product.dto.ProductWithEventDTO;
+import com.jh.productservice.domain.product.dto.StockBatchRequest;
+import com.jh.productservice.domain.product.dto.StockHoldReleaseRequest;
+import com.jh.productservice.domain.product.dto.StockHoldRequest;
+import com.jh.productservice.domain.product.dto.StockReserveRequest;
+import com.jh.productservice.domain.product.dto.StockRestoreBatchRequest;
+import com.jh.productservice.domain.product.dto.StockStripeUpdateRequest;
 import com.jh.productservice.domain.product.dto.StockUpdateRequest;
 import com.jh.productservice.service.product.ProductService;
+import com.jh.productservice.service.stock.StockHoldService;
+import com.jh.productservice.service.stock.StockStripeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/products")
@@ -18,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final StockHoldService stockHoldService;
+    private final StockStripeService stockStripeService;
 
     @GetMapping
     public ResponseEntity<PagedResponseDTO<ProductWithEventDTO>> getProductsWithCursor(
@@ -27,6 +44,19 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProductsWithCursor(cursor, size));
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<List<ProductWithEventDTO>>> getProductsByIds(@RequestParam List<Long> ids) {
+        log.info("Received request for {} products by ids", ids.size());
+        return ResponseEntity.ok(ApiResponse.success(productService.getProductsByIds(ids)));
+    }
+
+    @PostMapping("/quote")
+    public ResponseEntity<ApiResponse<List<ProductQuoteDTO>>> quote(@RequestBody ProductQuoteRequest request) {
+        List<ProductQuoteItem> items = request.getItems() != null ? request.getItems() : List.of();
+        log.info("Quoting {} order lines", items.size());
+        return ResponseEntity.ok(ApiResponse.success(productService.quote(items)));
+    }
+
     @GetMapping("/{productId}")
     public ResponseEntity<ApiResponse<ProductWithEventDTO>> getProduct(@PathVariable Long productId) {
         log.info("Received request for product with id: {}", productId);
@@ -41,28 +71,105 @@ public class ProductController {
 
 
     @GetMapping("/{productId}/check-stock")
-    public ResponseEntity<Boolean>checkStock(
+    public CompletableFuture<ResponseEntity<Boolean>> checkStock(
             @PathVariable Long productId,
             @RequestParam Integer quantity) {
         log.info("Checking stock for product: {}, quantity: {}", productId, quantity);
-        boolean hasStock = productService.checkStock(productId, quantity);
-        return ResponseEntity.ok(hasStock);
+        return productService.checkStockAsync(productId, quantity)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/stock/batch")
+    public ResponseEntity<ApiResponse<Map<Long, Integer>>> getStocks(@RequestBody StockBatchRequest request) {
+        List<Long> productIds = request.getProductIds() != null ? request.getProductIds() : List.of();
+        log.info("Getting stock for {} products", productIds.size());
+        return ResponseEntity.ok(ApiResponse.success(productService.getStocks(productIds)));
     }
 
     @PostMapping("/stock/decrease")
-    public ResponseEntity<ApiResponse<Void>> decreaseStock(@RequestBody StockUpdateRequest request) {
-        log.info("Decreasing stock for product: {}, quantity: {}",
-                request.getProductId(), request.getQuantity());
-        productService.decreaseStock(request.getProductId(), request.getQuantity());
-        return ResponseEntity.ok(ApiResponse.success(null));
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> decreaseStock(@RequestBody StockUpdateRequest request) {
+        log.info("Decreasing stock for order: {}, product: {}, quantity: {}",
+                request.getOrderId(), request.getProductId(), request.getQuantity());
+        return productService.decreaseStockAsync(request.getOrderId(), request.getProductId(), request.getQuantity())
+                .thenApply(done -> ResponseEntity.ok(ApiResponse.success(null)));
     }
 
     @PostMapping("/stock/increase")
-    public ResponseEntity<ApiResponse<Void>> increaseStock(@RequestBody StockUpdateRequest request) {
-        log.info("Increasing stock for product: {}, quantity: {}",
-                request.getProductId(), request.getQuantity());
-        productService.increaseStock(request.getProductId(), request.getQuantity());
-        return ResponseEntity.ok(ApiResponse.success(null));
+    public CompletableFuture<ResponseEntity<ApiResponse<Boolean>>> increaseStock(@RequestBody StockUpdateRequest request) {
+        log.info("Increasing stock for order: {}, product: {}, quantity: {}",
+                request.getOrderId(), request.getProductId(), request.getQuantity());
+        return productService.increaseStockAsync(request.getOrderId(), request.getProductId(), request.getQuantity())
+                .thenApply(restored -> ResponseEntity.ok(ApiResponse.success(true)));
+    }
+
+    @PostMapping("/stock/increase/batch")
+    public CompletableFuture<ResponseEntity<ApiResponse<Integer>>> increaseStocks(@RequestBody StockReserveRequest request) {
+        log.info("Increasing stock for order: {}, lines: {}",
+                request.getOrderId(), request.getItems() != null ? request.getItems().size() : 0);
+        return productService.increaseStocksAsync(request.getOrderId(), request.getItems())
+                .thenApply(restored -> ResponseEntity.ok(ApiResponse.success(restored)));
+    }
+
+    @PostMapping("/stock/increase/orders")
+    public CompletableFuture<ResponseEntity<ApiResponse<Integer>>> increaseStocksForOrders(@RequestBody StockRestoreBatchRequest request) {
+        List<StockReserveRequest> orders = request.getOrders() != null ? request.getOrders() : List.of();
+        log.info("Increasing stock for {} orders", orders.size());
+        return productService.increaseStocksAsync(orders)
+                .thenApply(restored -> ResponseEntity.ok(ApiResponse.success(restored)));
+    }
+
+    @PostMapping("/stock/reserve")
+    public CompletableFuture<ResponseEntity<ApiResponse<Boolean>>> reserveStock(@RequestBody StockReserveRequest request) {
+        log.info("Reserving stock for order: {}, lines: {}",
+                request.getOrderId(), request.getItems() != null ? request.getItems().size() : 0);
+        return productService.reserveStockAsync(request.getOrderId(), request.getItems())
+                .thenApply(done -> ResponseEntity.ok(ApiResponse.success(true)));
+    }
+
+    @PostMapping("/stock/holds")
+    public CompletableFuture<ResponseEntity<ApiResponse<Boolean>>> holdStock(@RequestBody StockHoldRequest request) {
+        log.info("Holding stock for order: {}, ttlSeconds: {}", request.getOrderId(), request.getTtlSeconds());
+        long ttlSeconds = request.getTtlSeconds() != null ? request.getTtlSeconds() : 0L;
+        return stockHoldService.holdStockAsync(request.getOrderId(), ttlSeconds, request.getItems())
+                .thenApply(done -> ResponseEntity.ok(ApiResponse.success(true)));
+    }
+
+    @PostMapping("/stock/holds/{orderId}/commit")
+    public CompletableFuture<ResponseEntity<ApiResponse<Boolean>>> commitStockHold(@PathVariable Long orderId) {
+        log.info("Committing stock hold for order: {}", orderId);
+        return stockHoldService.commitHoldAsync(orderId)
+                .thenApply(done -> ResponseEntity.ok(ApiResponse.success(true)));
+    }
+
+    @PostMapping("/stock/holds/{orderId}/release")
+    public CompletableFuture<ResponseEntity<ApiResponse<Integer>>> releaseStockHold(@PathVariable Long orderId) {
+        log.info("Releasing stock hold for order: {}", orderId);
+        return stockHoldService.releaseHoldAsync(orderId)
+                .thenApply(released -> ResponseEntity.ok(ApiResponse.success(released)));
+    }
+
+    @PostMapping("/stock/holds/release")
+    public CompletableFuture<ResponseEntity<ApiResponse<Integer>>> releaseStockHolds(@RequestBody StockHoldReleaseRequest request) {
+        List<Long> orderIds = request.getOrderIds() != null ? request.getOrderIds() : List.of();
+        log.info("Releasing stock holds for {} orders", orderIds.size());
+        return stockHoldService.releaseHoldsAsync(orderIds)
+                .thenApply(released -> ResponseEntity.ok(ApiResponse.success(released)));
+    }
+
+    @PutMapping("/{productId}/stock/stripes")
+    public ResponseEntity<ApiResponse<Integer>> updateStockStripes(
+            @PathVariable Long productId,
+            @RequestBody StockStripeUpdateRequest request) {
+        log.info("Updating stock stripes for product: {}, stripes: {}", productId, request.getStripes());
+        int stripes = request.getStripes() != null ? request.getStripes() : 0;
+        return ResponseEntity.ok(ApiResponse.success(stockStripeService.updateProductStripes(productId, stripes)));
+    }
+
+    @PostMapping("/{productId}/stock/rebalance")
+    public ResponseEntity<ApiResponse<Boolean>> rebalanceStock(@PathVariable Long productId) {
+        log.info("Rebalancing stock stripes for product: {}", productId);
+        stockStripeService.rebalance(productId);
+        return ResponseEntity.ok(ApiResponse.success(true));
     }
 
     @GetMapping("/events/{eventId}")
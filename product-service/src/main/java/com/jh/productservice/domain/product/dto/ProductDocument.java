@@ -0,0 +1,24 @@
+package com.jh.productservice.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 상세 캐시 문서
+ * - 재고는 자주 바뀌므로 포함하지 않고, 응답 시 Redis 재고 키에서 읽어 합칩니다.
+ */
+public record ProductDocument(
+        Long productId,          // 상품 ID
+        String productName,      // 상품 이름
+        BigDecimal price,        // 상품 가격
+        List<EventInfoDTO> events        // 이벤트 정보
+) {
+
+    public static ProductDocument from(ProductWithEventDTO product) {
+        return new ProductDocument(product.productId(), product.productName(), product.price(), product.events());
+    }
+
+    public ProductWithEventDTO withStock(Integer stockQuantity) {
+        return new ProductWithEventDTO(productId, productName, price, stockQuantity, events);
+    }
+}
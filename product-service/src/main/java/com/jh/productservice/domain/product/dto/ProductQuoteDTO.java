@@ -0,0 +1,18 @@
+package com.jh.productservice.domain.product.dto;
+
+import java.math.BigDecimal;
+
+public record ProductQuoteDTO(
+        Long productId,            // 상품 ID
+        boolean productFound,      // 상품 존재 여부 (false면 나머지 상품 정보는 null)
+        String productName,        // 상품 이름
+        BigDecimal price,          // 상품 가격
+        Integer quantity,          // 요청 수량
+        Long eventId,              // 요청 이벤트 ID (null 가능)
+        String eventName,          // 이벤트 이름 (이벤트가 상품에 연결되지 않았으면 null)
+        BigDecimal discountPrice,  // 적용 단가 (유효한 이벤트면 할인가, 아니면 상품 가격)
+        Boolean eventValid,        // 이벤트가 상품에 연결되어 있고 종료되지 않았는지 (이벤트 미요청 시 null)
+        Integer stockQuantity,     // 현재 재고 수량
+        boolean stockSufficient    // 같은 상품 라인들의 수량 합계 이상 재고가 있는지
+) {
+}
@@ -0,0 +1,14 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuoteItem {
+    private Long productId;    // 상품 ID
+    private Long eventId;      // 적용 이벤트 ID (선택 사항)
+    private Integer quantity;  // 수량
+}
@@ -0,0 +1,14 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBatchRequest {
+    private List<Long> productIds;   // 재고를 조회할 상품 ID 목록
+}
@@ -0,0 +1,14 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHoldReleaseRequest {
+    private List<Long> orderIds;   // 선점을 해제할 주문 ID 목록
+}
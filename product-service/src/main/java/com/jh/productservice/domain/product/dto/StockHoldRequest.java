@@ -0,0 +1,16 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHoldRequest {
+    private Long orderId;                    // 주문 ID (선점 단위)
+    private Long ttlSeconds;                 // 선점 유지 시간 (주문 대기 시간과 동일)
+    private List<StockUpdateRequest> items;  // 주문 라인별 상품 ID, 수량
+}
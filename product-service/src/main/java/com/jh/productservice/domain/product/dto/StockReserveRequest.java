@@ -0,0 +1,15 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReserveRequest {
+    private Long orderId;                    // 주문 ID (로그/추적용)
+    private List<StockUpdateRequest> items;  // 주문 라인별 상품 ID, 수량
+}
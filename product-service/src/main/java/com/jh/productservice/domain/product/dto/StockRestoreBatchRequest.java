@@ -0,0 +1,14 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockRestoreBatchRequest {
+    private List<StockReserveRequest> orders;   // 재고를 복구할 주문별 라인 목록
+}
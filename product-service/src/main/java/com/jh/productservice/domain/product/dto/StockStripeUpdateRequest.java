@@ -0,0 +1,13 @@
+package com.jh.productservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StockStripeUpdateRequest {
+
+    private Integer stripes;    // 재고 분할 수 (1이면 분할 해제)
+}
@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class StockUpdateRequest {
     private Long productId;
     private Integer quantity;
+    private Long orderId;   // 멱등 키 (같은 주문·상품의 재요청은 한 번만 반영, 없으면 구분하지 않음)
 } 
\ No newline at end of file
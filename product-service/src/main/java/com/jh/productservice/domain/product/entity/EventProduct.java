@@ -32,9 +32,16 @@ public class EventProduct extends TimeStamp {
     @Column(name = "discount_rate", nullable = false, columnDefinition = "DECIMAL(5,2)")
     private Double discountRate; // 상품에 대한 할인율
 
+    @Column(name = "stock_stripes")
+    private Integer stockStripes; // 이벤트 기간 동안 적용할 재고 분할 수 (null이면 상품 설정 사용)
+
     public EventProduct(Event event, Product product, Double discountRate) {
         this.event = event;
         this.product = product;
         this.discountRate = discountRate;
     }
+
+    public void updateStockStripes(int stockStripes) {
+        this.stockStripes = stockStripes;
+    }
 }
@@ -35,9 +35,20 @@ public class Product extends TimeStamp {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    // 재고 분할(stripe) 수: null 또는 1이면 단일 재고 키 사용
+    @Column(name = "stock_stripes")
+    private Integer stockStripes;
+
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EventProduct> eventProducts = new ArrayList<>();
 
+    public Product(String productName, String productDescription, BigDecimal price, Integer stockQuantity) {
+        this.productName = productName;
+        this.productDescription = productDescription;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+
     public void updateStockQuantity(int quantity) {
         if (quantity < 0) {
             throw new BusinessException(ErrorCode.INVALID_QUANTITY);
@@ -56,4 +67,8 @@ public class Product extends TimeStamp {
         this.stockQuantity += amount;
     }
 
+    public void updateStockStripes(int stockStripes) {
+        this.stockStripes = stockStripes;
+    }
+
 }
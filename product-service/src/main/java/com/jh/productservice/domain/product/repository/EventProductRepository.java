@@ -1,13 +1,40 @@
 package com.jh.productservice.domain.product.repository;
 
 import com.jh.productservice.domain.product.entity.EventProduct;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventProductRepository extends JpaRepository<EventProduct, Long> {
+    @EntityGraph(attributePaths = {"event", "product"})
     Optional<EventProduct> findByEvent_EventIdAndProduct_ProductId(Long eventId, Long productId);
     boolean existsByProduct_ProductIdAndEvent_EventId(Long productId, Long eventId);
+
+    // 종료되지 않은 이벤트 중 재고 분할이 설정된 이벤트 상품
+    @Query("select ep from EventProduct ep join ep.event e where ep.stockStripes > 1 and e.endDate > :now")
+    List<EventProduct> findStripedBeforeEnd(@Param("now") LocalDateTime now);
+
+    // 상품 상세: 상품의 전체 이벤트를 이벤트와 함께 조회
+    @EntityGraph(attributePaths = "event")
+    List<EventProduct> findByProduct_ProductId(Long productId);
+
+    // 상품 일괄 조회: 여러 상품의 전체 이벤트를 이벤트와 함께 한 번에 조회
+    @EntityGraph(attributePaths = "event")
+    List<EventProduct> findByProduct_ProductIdIn(Collection<Long> productIds);
+
+    // 상품 목록: 여러 상품의 종료되지 않은 이벤트를 이벤트와 함께 한 번에 조회
+    @Query("select ep from EventProduct ep join fetch ep.event e where ep.product.productId in :productIds and e.endDate > :now")
+    List<EventProduct> findActiveWithEventByProductIdIn(@Param("productIds") Collection<Long> productIds,
+                                                       @Param("now") LocalDateTime now);
+
+    @Query("select distinct ep.product.productId from EventProduct ep where ep.event.eventId in :eventIds")
+    List<Long> findProductIdsByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
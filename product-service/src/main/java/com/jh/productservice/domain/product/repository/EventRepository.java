@@ -4,8 +4,14 @@ import com.jh.productservice.domain.product.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
     boolean existsByEventName(String eventName);
+
+    // 지정 시각 전에 시작하고 아직 끝나지 않은 이벤트 (곧 시작하거나 진행 중)
+    List<Event> findByStartDateBeforeAndEndDateAfter(LocalDateTime startBefore, LocalDateTime endAfter);
 }
@@ -1,9 +1,17 @@
 package com.jh.productservice.domain.product.repository;
 
 import com.jh.productservice.domain.product.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    List<Product> findAllByStockStripesGreaterThan(Integer stockStripes);
+
+    // 상품 ID 기준 seek 조회: productId > :productId ORDER BY productId LIMIT pageSize (커서 페이지네이션, 전체 상품 순회)
+    List<Product> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Pageable pageable);
 }
\ No newline at end of file
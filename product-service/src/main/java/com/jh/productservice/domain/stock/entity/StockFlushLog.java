@@ -0,0 +1,29 @@
+package com.jh.productservice.domain.stock.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 재고 변경분 배치 반영 이력
+ * - 같은 배치가 재시도/중복 실행되어도 DB에 한 번만 반영되도록 배치 ID를 기록합니다.
+ */
+@Getter
+@Entity
+@Table(name = "stock_flush_log")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockFlushLog {
+
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -12,6 +12,7 @@ import com.jh.productservice.domain.product.entity.Product;
 import com.jh.productservice.domain.product.repository.EventProductRepository;
 import com.jh.productservice.domain.product.repository.EventRepository;
 import com.jh.productservice.domain.product.repository.ProductRepository;
+import com.jh.productservice.service.product.ProductCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,7 @@ public class EventServiceImpl implements EventService {
     private final ProductRepository productRepository;
     private final EventProductRepository eventProductRepository;
     private final EventRepository eventRepository;
+    private final ProductCache productCache;
 
     @Override
     @Transactional
@@ -44,6 +46,8 @@ public class EventServiceImpl implements EventService {
         }
         EventProduct eventProduct = new EventProduct(event, product, discountRate);
         eventProductRepository.save(eventProduct);
+        // 상품 상세 캐시에 새 이벤트가 반영되도록 커밋 후 무효화
+        productCache.evictAfterCommit(List.of(productId));
 
         return ApiResponse.success(eventProduct);
     }
@@ -108,6 +112,8 @@ public class EventServiceImpl implements EventService {
        event.updateDates(startDate, endDate);
         // 변경된 이벤트를 저장
         eventRepository.save(event);
+        // 이벤트에 연결된 상품들의 상세 캐시를 커밋 후 무효화
+        productCache.evictAfterCommit(eventProductRepository.findProductIdsByEventIds(List.of(eventId)));
 
         return ApiResponse.success(event);
     }
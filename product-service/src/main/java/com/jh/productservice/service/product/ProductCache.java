@@ -0,0 +1,237 @@
+package com.jh.productservice.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jh.productservice.domain.product.dto.ProductDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회용 2단계 캐시 (로컬 Caffeine → Redis → DB)
+ * - 로컬 캐시는 크기와 TTL로 제한하고, Redis 캐시는 모든 인스턴스가 공유합니다.
+ * - 상품/이벤트가 변경되면 커밋 후 Redis 문서를 지우고 product:cache:invalidate 채널로 알려
+ *   각 인스턴스가 로컬 캐시를 비웁니다. (메시지를 놓치더라도 로컬 TTL 안에 정리됨)
+ * - 무효화마다 상품별 버전을 올리고, DB에서 읽은 문서는 읽기 전 버전이 그대로일 때만 Redis에 기록합니다.
+ *   (무효화 직전에 읽은 오래된 문서가 무효화 이후에 다시 기록되는 것을 방지)
+ */
+@Component
+@Slf4j
+public class ProductCache {
+
+    static final String CACHE_KEY_PREFIX = "product:cache:";
+    static final String VERSION_KEY_PREFIX = "product:cache:version:";
+    static final String INVALIDATION_TOPIC = "product:cache:invalidate";
+
+    // 버전이 그대로일 때만 문서 기록 (KEYS[1]=문서, KEYS[2]=버전, ARGV[1]=문서, ARGV[2]=읽기 전 버전, ARGV[3]=TTL(초))
+    private static final String PUT_IF_VERSION_SCRIPT =
+            "local current = redis.call('GET', KEYS[2]) or '0' " +
+            "if current ~= ARGV[2] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ProductDocument> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public ProductCache(RedissonClient redissonClient,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${product.cache.local.max-size:10000}") long localMaxSize,
+                        @Value("${product.cache.local.ttl-seconds:30}") long localTtlSeconds,
+                        @Value("${product.cache.redis.ttl-seconds:600}") long redisTtlSeconds) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localMisses = Counter.builder("product.cache.local.misses")
+                .description("로컬 캐시에 없어 Redis를 조회한 횟수")
+                .register(meterRegistry);
+        this.redisHits = Counter.builder("product.cache.redis.hits")
+                .description("Redis 캐시에서 찾은 횟수")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("product.cache.redis.misses")
+                .description("Redis 캐시에도 없어 DB를 조회한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationTopic().addListener(String.class,
+                (channel, productId) -> localCache.invalidate(Long.valueOf(productId)));
+    }
+
+    /**
+     * 상품 문서를 캐시에서 조회하고, 없으면 loader로 읽어 두 캐시에 채웁니다.
+     *
+     * @param productId 상품 ID
+     * @param loader    DB에서 문서를 읽는 함수 (예외는 그대로 전파되고 캐시하지 않음)
+     * @return 상품 문서
+     */
+    public ProductDocument get(Long productId, Function<Long, ProductDocument> loader) {
+        return localCache.get(productId, id -> {
+            localMisses.increment();
+            return loadThroughRedis(List.of(id), ids -> Map.of(id, loader.apply(id))).get(id);
+        });
+    }
+
+    /**
+     * 여러 상품 문서를 한 번에 조회합니다. 로컬 캐시에 없는 상품만 Redis 조회 1회, 그래도 없는 상품만 loader 1회로 읽습니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @param loader     DB에서 여러 문서를 한 번에 읽는 함수 (존재하지 않는 상품은 결과에서 제외)
+     * @return 상품 ID → 상품 문서 (존재하지 않는 상품은 제외)
+     */
+    public Map<Long, ProductDocument> getAll(Collection<Long> productIds,
+                                             Function<List<Long>, Map<Long, ProductDocument>> loader) {
+        return localCache.getAll(productIds, missingIds -> {
+            localMisses.increment(missingIds.size());
+            return loadThroughRedis(new ArrayList<>(missingIds), loader);
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 상품 문서를 무효화합니다. (트랜잭션이 없으면 즉시)
+     *
+     * @param productIds 변경된 상품 ID 목록
+     */
+    public void evictAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = Set.copyOf(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        } else {
+            evict(ids);
+        }
+    }
+
+    private Map<Long, ProductDocument> loadThroughRedis(List<Long> productIds,
+                                                        Function<List<Long>, Map<Long, ProductDocument>> loader) {
+        Map<Long, ProductDocument> documents = new HashMap<>();
+        Map<Long, String> versions = null;
+        try {
+            // 상품마다 문서와 버전을 함께 읽음 (응답 순서: 문서, 버전, 문서, 버전, ...)
+            RBatch batch = redissonClient.createBatch();
+            for (Long productId : productIds) {
+                batch.getBucket(cacheKey(productId), StringCodec.INSTANCE).getAsync();
+                batch.getBucket(versionKey(productId), StringCodec.INSTANCE).getAsync();
+            }
+            List<?> responses = batch.execute().getResponses();
+
+            Map<Long, String> missingVersions = new HashMap<>();
+            for (int i = 0; i < productIds.size(); i++) {
+                Object document = responses.get(i * 2);
+                Object version = responses.get(i * 2 + 1);
+                if (document != null) {
+                    documents.put(productIds.get(i), objectMapper.readValue((String) document, ProductDocument.class));
+                } else {
+                    missingVersions.put(productIds.get(i), version != null ? (String) version : "0");
+                }
+            }
+            versions = missingVersions;
+        } catch (Exception e) {
+            // Redis 장애 시 DB에서 직접 읽음 (Redis에는 기록하지 않음)
+            log.warn("[ProductCache] Redis read failed for products {}", productIds, e);
+        }
+
+        List<Long> missingIds = productIds.stream().filter(productId -> !documents.containsKey(productId)).toList();
+        redisHits.increment(documents.size());
+        if (missingIds.isEmpty()) {
+            return documents;
+        }
+
+        redisMisses.increment(missingIds.size());
+        Map<Long, ProductDocument> loaded = loader.apply(missingIds);
+        documents.putAll(loaded);
+        if (versions != null && !loaded.isEmpty()) {
+            write(loaded.values(), versions);
+        }
+        return documents;
+    }
+
+    private void write(Collection<ProductDocument> documents, Map<Long, String> versions) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            for (ProductDocument document : documents) {
+                batch.getScript(StringCodec.INSTANCE).evalAsync(
+                        RScript.Mode.READ_WRITE,
+                        PUT_IF_VERSION_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        List.of(cacheKey(document.productId()), versionKey(document.productId())),
+                        objectMapper.writeValueAsString(document),
+                        versions.getOrDefault(document.productId(), "0"),
+                        String.valueOf(redisTtl.toSeconds()));
+            }
+            batch.execute();
+        } catch (JsonProcessingException e) {
+            log.warn("[ProductCache] Failed to serialize products {}", versions.keySet(), e);
+        } catch (Exception e) {
+            log.warn("[ProductCache] Redis write failed for products {}", versions.keySet(), e);
+        }
+    }
+
+    private void evict(Set<Long> productIds) {
+        productIds.forEach(localCache::invalidate);
+        try {
+            RBatch batch = redissonClient.createBatch();
+            for (Long productId : productIds) {
+                batch.getAtomicLong(versionKey(productId)).incrementAndGetAsync();
+                batch.getBucket(cacheKey(productId), StringCodec.INSTANCE).deleteAsync();
+                batch.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE).publishAsync(String.valueOf(productId));
+            }
+            batch.execute();
+        } catch (Exception e) {
+            // 다른 인스턴스의 로컬 캐시는 TTL, Redis 문서는 Redis TTL이 지나면 정리됨
+            log.error("[ProductCache] Failed to invalidate products {}", productIds, e);
+        }
+    }
+
+    private RTopic invalidationTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private static String cacheKey(Long productId) {
+        return CACHE_KEY_PREFIX + productId;
+    }
+
+    private static String versionKey(Long productId) {
+        return VERSION_KEY_PREFIX + productId;
+    }
+}
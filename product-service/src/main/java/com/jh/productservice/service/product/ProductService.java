@@ -3,20 +3,29 @@ package com.jh.productservice.service.product;
 
 import com.jh.common.domain.page.PagedResponseDTO;
 import com.jh.productservice.domain.product.dto.EventInfoDTO;
+import com.jh.productservice.domain.product.dto.ProductQuoteDTO;
+import com.jh.productservice.domain.product.dto.ProductQuoteItem;
 import com.jh.productservice.domain.product.dto.ProductWithEventDTO;
+import com.jh.productservice.domain.product.dto.StockReserveRequest;
+import com.jh.productservice.domain.product.dto.StockUpdateRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface  ProductService {
 
     /**
      * 커서 기반 페이지네이션을 사용하여 상품 목록을 조회합니다.
      *
-     * @param cursor 현재 페이지를 결정하는 커서 값 (0이면 첫 페이지를 의미)
+     * @param cursor 직전 페이지의 마지막 상품 ID (0이면 첫 페이지를 의미)
      * @param size   한 페이지에 표시할 상품 수
      * @return PagedResponseDTO<ProductWithEventDTO> 상품 목록 및 다음 커서 정보
      *
      * 사용 예:
      * - 페이지네이션을 통해 상품 데이터를 효율적으로 조회
-     * - 클라이언트는 응답에 포함된 nextCursor를 사용하여 다음 페이지 요청 가능
+     * - 클라이언트는 응답에 포함된 cursor를 그대로 다음 요청에 전달 (hasMore가 false면 마지막 페이지)
      */
     PagedResponseDTO<ProductWithEventDTO> getProductsWithCursor(Long cursor, int size);
 
@@ -32,11 +41,111 @@ public interface  ProductService {
      */
     ProductWithEventDTO getProductById(Long productId);
 
-    boolean checkStock(Long productId, Integer quantity);
+    /**
+     * 여러 상품의 현재 재고를 한 번에 조회합니다.
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return 상품 ID → 현재 재고 수량 (존재하지 않는 상품은 제외)
+     *
+     * 사용 예:
+     * - 장바구니/주문서처럼 여러 상품의 재고를 함께 표시할 때 상품 수와 무관하게 Redis 호출 1~2회로 조회
+     */
+    Map<Long, Integer> getStocks(Collection<Long> productIds);
+
+    /**
+     * 여러 상품의 상세 정보를 한 번에 조회합니다.
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return 요청 순서대로 정렬된 상품 상세 목록 (존재하지 않는 상품은 제외)
+     *
+     * 사용 예:
+     * - 주문/위시리스트처럼 여러 상품을 함께 표시할 때 상품마다 상세 조회를 호출하지 않고 한 번에 조회
+     */
+    List<ProductWithEventDTO> getProductsByIds(Collection<Long> productIds);
+
+    /**
+     * 주문 라인 목록의 상품 정보, 적용 단가, 이벤트 유효 여부, 재고 충분 여부를 한 번에 계산합니다.
+     *
+     * @param items 주문 라인 목록 (상품 ID, 이벤트 ID, 수량)
+     * @return 요청 라인 순서대로의 견적 목록
+     *
+     * 사용 예:
+     * - 주문 생성 시 라인마다 상품/이벤트/재고를 따로 조회하지 않고 주문당 한 번 호출
+     * - 존재하지 않는 상품, 연결되지 않았거나 종료된 이벤트, 재고 부족은 플래그로 확인
+     */
+    List<ProductQuoteDTO> quote(List<ProductQuoteItem> items);
+
+    /**
+     * 재고가 요청 수량 이상인지 확인합니다. (차감하지 않음)
+     *
+     * @param productId 상품 ID
+     * @param quantity  확인할 수량
+     * @return 재고 충분 여부로 완료되는 Future
+     *
+     * 사용 예:
+     * - 컨트롤러가 Future를 그대로 반환하여, Redis 응답을 기다리는 동안 요청 스레드를 반납
+     */
+    CompletableFuture<Boolean> checkStockAsync(Long productId, Integer quantity);
+
+    /**
+     * 상품 재고를 차감합니다.
+     *
+     * @param orderId   주문 ID (멱등 키, null이면 재요청을 구분하지 않음)
+     * @param productId 상품 ID
+     * @param quantity  차감 수량
+     *
+     * 사용 예:
+     * - 타임아웃 후 재시도된 요청도 같은 주문·상품이면 한 번만 차감
+     * - 차감 실패 시 BusinessException으로 완료되는 Future 반환
+     */
+    CompletableFuture<Void> decreaseStockAsync(Long orderId, Long productId, Integer quantity);
 
-    void decreaseStock(Long productId, Integer quantity);
+    /**
+     * 주문 취소/반품 시 상품 재고를 복구합니다. (increaseStocksAsync의 단건 버전)
+     *
+     * @param orderId   주문 ID (멱등 키, null이면 재요청을 구분하지 않음)
+     * @param productId 상품 ID
+     * @param quantity  복구 수량
+     * @return 이번 요청으로 복구되었으면 1, 이미 복구된 재요청이면 0으로 완료되는 Future
+     */
+    CompletableFuture<Integer> increaseStockAsync(Long orderId, Long productId, Integer quantity);
 
-    void increaseStock(Long productId, Integer quantity);
+    /**
+     * 주문 취소/반품 시 여러 상품의 재고를 한 번에 복구합니다.
+     *
+     * @param orderId 주문 ID (상품별 멱등 키, null이면 재요청을 구분하지 않음)
+     * @param items   상품 ID와 복구 수량 목록
+     * @return 이번 요청으로 복구된 상품 수로 완료되는 Future
+     *
+     * 사용 예:
+     * - 주문 전체 라인의 재고를 요청 한 번으로 복구
+     * - 같은 주문·상품의 복구 요청이 여러 번 들어와도 한 번만 증가 (단건 복구와 같은 멱등 키 사용)
+     */
+    CompletableFuture<Integer> increaseStocksAsync(Long orderId, List<StockUpdateRequest> items);
+
+    /**
+     * 여러 주문의 재고를 한 번에 복구합니다.
+     *
+     * @param orders 주문 ID와 라인 목록 (주문별 멱등 키는 increaseStocksAsync와 동일)
+     * @return 이번 요청으로 복구된 상품 수 합계로 완료되는 Future
+     *
+     * 사용 예:
+     * - 주문 서비스가 커밋된 취소/반품 이벤트를 모아 요청 한 번으로 복구
+     */
+    CompletableFuture<Integer> increaseStocksAsync(List<StockReserveRequest> orders);
+
+    /**
+     * 주문에 포함된 여러 상품의 재고를 한 번에 차감합니다.
+     *
+     * @param orderId 주문 ID
+     * @param items   주문 라인별 상품 ID와 수량
+     *
+     * 사용 예:
+     * - 결제 완료 시 주문 전체 라인의 재고를 단일 Redis 호출로 차감
+     * - 하나의 라인이라도 재고가 부족하면 어떤 라인도 차감되지 않음 (all-or-nothing)
+     * - Redis 응답 시 완료되는 Future 반환 (요청 스레드를 점유하지 않음)
+     */
+    CompletableFuture<Void> reserveStockAsync(Long orderId, List<StockUpdateRequest> items);
 
     EventInfoDTO getEventInfo(Long eventId, Long productId);
 }
@@ -5,107 +5,127 @@ import com.jh.common.constant.ErrorCode;
 import com.jh.common.domain.page.PagedResponseDTO;
 import com.jh.common.exception.BusinessException;
 import com.jh.productservice.domain.product.dto.EventInfoDTO;
+import com.jh.productservice.domain.product.dto.ProductDocument;
+import com.jh.productservice.domain.product.dto.ProductQuoteDTO;
+import com.jh.productservice.domain.product.dto.ProductQuoteItem;
 import com.jh.productservice.domain.product.dto.ProductWithEventDTO;
+import com.jh.productservice.domain.product.dto.StockReserveRequest;
+import com.jh.productservice.domain.product.dto.StockUpdateRequest;
 import com.jh.productservice.domain.product.entity.Event;
 import com.jh.productservice.domain.product.entity.EventProduct;
 import com.jh.productservice.domain.product.entity.Product;
 import com.jh.productservice.domain.product.repository.EventProductRepository;
 import com.jh.productservice.domain.product.repository.ProductRepository;
+import com.jh.productservice.service.stock.InventoryScript;
+import com.jh.productservice.service.stock.StockRedisLoader;
+import com.jh.productservice.service.stock.StockScriptExecutor;
+import com.jh.productservice.service.stock.StockStripeRegistry;
+import com.jh.productservice.service.stock.StockStripeService;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RFuture;
-import org.redisson.api.RScript;
-import org.redisson.api.RedissonClient;
-import org.springframework.data.domain.Sort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final EventProductRepository eventProductRepository;
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private static final String STOCK_KEY_PREFIX = "stock:product:";
 
-    private final RedissonClient redissonClient;
+    private final StockScriptExecutor stockScriptExecutor;
+    private final StockRedisLoader stockRedisLoader;
+    private final StockStripeRegistry stockStripeRegistry;
+    private final StockStripeService stockStripeService;
+    private final ThreadPoolTaskExecutor stockTaskExecutor;
+    private final ProductCache productCache;
+
+    // 재분배가 대기 중인 상품 (상품당 대기 작업 최대 1개)
+    private final Set<Long> pendingRebalances = ConcurrentHashMap.newKeySet();
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 커서 기반 페이지네이션을 사용하여 상품 목록을 조회합니다.
      *
-     * @param cursor 현재 페이지를 결정하는 커서 값 (0 이하일 경우 첫 페이지로 처리)
-     * @param size   한 페이지에 표시할 상품 수
+     * @param cursor 직전 페이지의 마지막 상품 ID (null 또는 0 이하일 경우 첫 페이지로 처리)
+     * @param size   한 페이지에 표시할 상품 수 (최대 MAX_PAGE_SIZE)
      * @return PagedResponseDTO<ProductWithEventDTO> 상품 목록 및 다음 커서 정보
      * <p>
      * 동작 방식:
-     * - 전체 상품 데이터를 정렬하여 조회합니다.
-     * - 커서 값과 페이지 크기를 기반으로 데이터를 슬라이싱합니다.
-     * - 반환 데이터에 다음 커서를 포함하여 클라이언트가 다음 페이지를 요청할 수 있도록 합니다.
+     * - 커서 이후의 상품만 상품 ID 순으로 size + 1개 조회합니다. (productId > :cursor ORDER BY productId LIMIT size + 1)
+     * - size보다 많이 조회되면 다음 페이지가 있는 것으로 판단하고, 초과분 1개는 응답에서 제외합니다.
+     * - 이번 페이지의 마지막 상품 ID를 다음 커서로 반환합니다. (카탈로그 크기와 무관하게 인덱스 범위 조회 1회)
+     * - 페이지 상품들의 종료되지 않은 이벤트는 fetch join 쿼리 1회로 함께 조회합니다. (상품 수와 무관하게 DB 조회 2회)
+     * - 재고는 페이지 전체를 Redis MGET 1회로 읽고, 없는 상품만 적재 스크립트 1회로 채웁니다. (상품 수와 무관하게 Redis 호출 최대 2회)
      */
     @Override
     public PagedResponseDTO<ProductWithEventDTO> getProductsWithCursor(Long cursor, int size) {
-        // 커서가 0일 경우 1로 설정
-        if (cursor == null || cursor <= 0) {
-            cursor = 1L;
+        long afterProductId = (cursor == null || cursor < 0) ? 0L : cursor;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<Product> products = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                afterProductId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = products.size() > pageSize;
+        List<Product> pageProducts = hasMore ? products.subList(0, pageSize) : products;
+
+        // 페이지 상품들의 종료되지 않은 이벤트를 이벤트와 함께 한 번에 조회 (종료 여부는 SQL에서 필터링)
+        Map<Long, List<EventProduct>> activeEventProducts = findActiveEventProducts(pageProducts);
+
+        // 페이지 상품들의 재고를 MGET 1회로 조회하고, Redis에 없는 상품은 적재 스크립트 1회로 채움
+        Map<Long, Integer> stocks = getStocksFromRedis(
+                pageProducts.stream().map(Product::getProductId).toList());
+        List<Product> missingProducts = pageProducts.stream()
+                .filter(product -> !stocks.containsKey(product.getProductId()))
+                .toList();
+        if (!missingProducts.isEmpty()) {
+            stockRedisLoader.load(missingProducts);
+            missingProducts.forEach(product -> stocks.put(product.getProductId(), product.getStockQuantity()));
         }
 
-        // 현재 커서를 계산하여 시작 위치 결정
-        int startIndex = (int) ((cursor - 1) * size);
-
-        // 데이터 전체를 정렬하여 가져오기
-        List<Product> products = productRepository.findAll(Sort.by(Sort.Direction.ASC, "productId"));
-
-        // 현재 커서에 맞는 데이터 필터링 (인덱스 기준 슬라이싱)
-        List<Product> paginatedProducts = products.stream()
-                .skip(startIndex)  // 커서 기반으로 시작점 이동
-                .limit(size)       // 사이즈만큼 데이터 가져오기
-                .collect(Collectors.toList());
-
-        // 상품 목록 -> DTO 변환
-        List<ProductWithEventDTO> productDtos = paginatedProducts.stream()
-                .map(this::mapProductToDto)
-                .map(productWithEventDTO -> {
-
-                    Integer stockInRedis = getStockFromRedis(productWithEventDTO.productId());
-
-                    // Redis에 재고가 없으면 DB에서 조회하고 Redis에 저장
-                    if (stockInRedis == null) {
-                        stockInRedis = productWithEventDTO.stockQuantity();  // DB에서 가져온 재고 사용
-                        saveStockToRedis(productWithEventDTO.productId(), stockInRedis);  // Redis에 재고 저장
-                    }
-
-//                    int stockQuantity = (stockInRedis != null) ? stockInRedis : productWithEventDTO.stockQuantity();
-                    System.out.println("####rdis : = " + stockInRedis);
-                    System.out.println("####ridasf : = " + productWithEventDTO.productId());
-                    // 종료된 이벤트를 제외
-                    List<EventInfoDTO> activeEvents = productWithEventDTO.events().stream()
-                            .filter(eventInfoDTO -> eventInfoDTO.endDate().isAfter(LocalDateTime.now())) // 종료된 이벤트 제외
-                            .collect(Collectors.toList());
-                    return new ProductWithEventDTO(
-                            productWithEventDTO.productId(),
-                            productWithEventDTO.productName(),
-                            productWithEventDTO.price(),
-//                            productWithEventDTO.stockQuantity(),
-                            stockInRedis,
-                            activeEvents
-                    );
-                })
+        // 상품 목록 -> DTO 변환 (재고는 Redis 기준)
+        List<ProductWithEventDTO> productDtos = pageProducts.stream()
+                .map(product -> mapProductToDto(
+                        product, activeEventProducts.getOrDefault(product.getProductId(), List.of())))
+                .map(productWithEventDTO -> new ProductWithEventDTO(
+                        productWithEventDTO.productId(),
+                        productWithEventDTO.productName(),
+                        productWithEventDTO.price(),
+                        stocks.get(productWithEventDTO.productId()),
+                        productWithEventDTO.events()
+                ))
                 .collect(Collectors.toList());
 
-        // 다음 커서 계산
-        boolean hasMore = paginatedProducts.size() > startIndex + size;
+        // 다음 커서: 이번 페이지의 마지막 상품 ID (빈 페이지면 요청 커서 유지)
+        Long nextCursor = pageProducts.isEmpty()
+                ? afterProductId
+                : pageProducts.get(pageProducts.size() - 1).getProductId();
 
-        return new PagedResponseDTO<>(cursor, size, productDtos, hasMore);
+        return PagedResponseDTO.of(productDtos, nextCursor, pageSize, hasMore);
     }
 
     /**
@@ -115,33 +135,178 @@ public class ProductServiceImpl implements ProductService {
      * @return ProductWithEventDTO 상품의 상세 정보와 관련 이벤트 정보
      * <p>
      * 동작 방식:
-     * - 상품 ID로 상품 데이터를 조회합니다.
+     * - 상품과 이벤트 정보는 상품 캐시(로컬 → Redis)에서 읽고, 캐시에 없을 때만 DB를 조회합니다.
+     * - 재고는 캐시하지 않고 getStocks로 Redis 재고 키에서 읽습니다. (Redis에 없으면 DB 재고를 적재 후 다시 읽음)
      * - 상품이 존재하지 않을 경우 적절한 예외를 반환합니다.
+     * - 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행합니다.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductWithEventDTO getProductById(Long productId) {
+        ProductDocument document = productCache.get(productId, this::loadProductDocument);
+        return document.withStock(getStocks(List.of(productId)).get(productId));
+    }
+
+    private ProductDocument loadProductDocument(Long productId) {
         // 특정 상품 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // 상품 -> DTO 변환
-        return mapProductToDto(product);
+        // 상품 -> DTO 변환 (이벤트는 이벤트와 함께 쿼리 1회로 조회)
+        return ProductDocument.from(mapProductToDto(product, eventProductRepository.findByProduct_ProductId(productId)));
+    }
+
+    /**
+     * 여러 상품의 현재 재고를 한 번에 조회합니다.
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return 상품 ID → 현재 재고 수량 (존재하지 않는 상품은 제외)
+     * <p>
+     * 동작 방식:
+     * - Redis 재고 키를 MGET 1회로 조회합니다.
+     * - Redis에 없는 상품만 DB 조회 1회 + 적재 스크립트 1회로 채운 뒤, 해당 상품들만 다시 MGET합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, Integer> getStocks(Collection<Long> productIds) {
+        List<Long> ids = distinctProductIds(productIds);
+        Map<Long, Integer> stocks = getStocksFromRedis(ids);
+
+        List<Long> missingIds = ids.stream().filter(productId -> !stocks.containsKey(productId)).toList();
+        if (!missingIds.isEmpty()) {
+            stockRedisLoader.loadMissing(missingIds);
+            stocks.putAll(getStocksFromRedis(missingIds));
+        }
+        return stocks;
+    }
+
+    /**
+     * 여러 상품의 상세 정보를 한 번에 조회합니다.
+     *
+     * @param productIds 조회할 상품 ID 목록 (최대 MAX_PAGE_SIZE개)
+     * @return 요청 순서대로 정렬된 상품 상세 목록 (존재하지 않는 상품은 제외)
+     * <p>
+     * 동작 방식:
+     * - 상품 문서는 상품 캐시에서 한 번에 읽고, 캐시에 없는 상품만 상품/이벤트 쿼리 각 1회로 조회합니다.
+     * - 재고는 getStocks로 MGET 1회에 조회합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductWithEventDTO> getProductsByIds(Collection<Long> productIds) {
+        List<Long> ids = distinctProductIds(productIds);
+        Map<Long, ProductDocument> documents = productCache.getAll(ids, this::loadProductDocuments);
+        Map<Long, Integer> stocks = getStocks(documents.keySet());
+
+        return ids.stream()
+                .filter(documents::containsKey)
+                .map(productId -> documents.get(productId).withStock(stocks.get(productId)))
+                .toList();
+    }
+
+    /**
+     * 주문 라인 목록의 가격, 이벤트 적용 여부, 재고 충분 여부를 한 번에 계산합니다.
+     *
+     * @param items 주문 라인 목록 (상품 ID, 이벤트 ID, 수량)
+     * @return 요청 라인 순서대로의 견적 목록
+     * <p>
+     * 동작 방식:
+     * - 라인들의 상품 문서를 getAll로, 재고를 getStocks로 한 번에 조회합니다. (상품/라인 수와 무관)
+     * - 이벤트는 상품 문서의 이벤트 목록에서 찾고, 종료되지 않았으면 할인가를 적용 단가로 사용합니다.
+     * - 같은 상품이 여러 라인에 있으면 수량 합계로 재고 충분 여부를 판단합니다.
+     * - 존재하지 않는 상품/이벤트도 예외 대신 플래그로 응답하여 호출 측이 오류 코드를 결정합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductQuoteDTO> quote(List<ProductQuoteItem> items) {
+        List<Long> ids = distinctProductIds(items.stream().map(ProductQuoteItem::getProductId).toList());
+        Map<Long, ProductDocument> documents = productCache.getAll(ids, this::loadProductDocuments);
+        Map<Long, Integer> stocks = getStocks(documents.keySet());
+
+        Map<Long, Integer> requestedQuantities = items.stream()
+                .filter(item -> item.getProductId() != null)
+                .collect(Collectors.groupingBy(ProductQuoteItem::getProductId,
+                        Collectors.summingInt(item -> item.getQuantity() != null ? item.getQuantity() : 0)));
+
+        LocalDateTime now = LocalDateTime.now();
+        return items.stream()
+                .map(item -> quoteItem(item, documents.get(item.getProductId()), stocks, requestedQuantities, now))
+                .toList();
+    }
+
+    private ProductQuoteDTO quoteItem(ProductQuoteItem item, ProductDocument document, Map<Long, Integer> stocks,
+                                      Map<Long, Integer> requestedQuantities, LocalDateTime now) {
+        Boolean eventRequested = item.getEventId() != null ? Boolean.TRUE : null;
+        if (document == null) {
+            return new ProductQuoteDTO(item.getProductId(), false, null, null, item.getQuantity(),
+                    item.getEventId(), null, null, eventRequested != null ? false : null, null, false);
+        }
+
+        EventInfoDTO event = item.getEventId() == null ? null : document.events().stream()
+                .filter(eventInfo -> item.getEventId().equals(eventInfo.eventId()))
+                .findFirst()
+                .orElse(null);
+        Boolean eventValid = eventRequested == null ? null : event != null && event.endDate().isAfter(now);
+        BigDecimal unitPrice = Boolean.TRUE.equals(eventValid) ? event.discountPrice() : document.price();
+
+        Integer stock = stocks.get(item.getProductId());
+        return new ProductQuoteDTO(
+                item.getProductId(),
+                true,
+                document.productName(),
+                document.price(),
+                item.getQuantity(),
+                item.getEventId(),
+                event != null ? event.eventName() : null,
+                unitPrice,
+                eventValid,
+                stock,
+                stock != null && stock >= requestedQuantities.getOrDefault(item.getProductId(), 0)
+        );
+    }
+
+    private Map<Long, ProductDocument> loadProductDocuments(List<Long> productIds) {
+        // 연관 상품은 프록시의 ID만 사용하므로 추가 조회 없음
+        Map<Long, List<EventProduct>> eventProducts = eventProductRepository.findByProduct_ProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(eventProduct -> eventProduct.getProduct().getProductId()));
+
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> ProductDocument.from(
+                        mapProductToDto(product, eventProducts.getOrDefault(product.getProductId(), List.of())))));
+    }
+
+    private List<Long> distinctProductIds(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.TOO_MANY_PRODUCTS);
+        }
+        return ids;
+    }
+
+    private Map<Long, List<EventProduct>> findActiveEventProducts(List<Product> products) {
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> productIds = products.stream().map(Product::getProductId).toList();
+        // 연관 상품은 프록시의 ID만 사용하므로 추가 조회 없음
+        return eventProductRepository.findActiveWithEventByProductIdIn(productIds, LocalDateTime.now()).stream()
+                .collect(Collectors.groupingBy(eventProduct -> eventProduct.getProduct().getProductId()));
     }
 
 
     /**
      * 공통 매핑 로직: Product -> ProductWithEventDTO
      *
-     * @param product 변환할 Product 엔티티
+     * @param product       변환할 Product 엔티티
+     * @param eventProducts 상품의 이벤트 상품 목록 (이벤트가 함께 조회된 상태)
      * @return ProductWithEventDTO 변환된 상품 DTO
      * <p>
      * 동작 방식:
      * - 상품 엔티티를 DTO로 변환합니다.
-     * - 관련된 이벤트 목록을 이벤트 DTO로 변환하여 포함합니다.
+     * - 관련된 이벤트 목록을 이벤트 DTO로 변환하여 포함합니다. (지연 로딩 연관관계를 따라가지 않음)
      */
-    private ProductWithEventDTO mapProductToDto(Product product) {
-        List<EventInfoDTO> events = product.getEventProducts().stream()
-                .map(this::mapEventProductToEventInfoDto) // 이벤트 매핑 메서드 사용
+    private ProductWithEventDTO mapProductToDto(Product product, List<EventProduct> eventProducts) {
+        List<EventInfoDTO> events = eventProducts.stream()
+                .map(eventProduct -> mapEventProductToEventInfoDto(eventProduct, product)) // 이벤트 매핑 메서드 사용
                 .collect(Collectors.toList());
 
         return new ProductWithEventDTO(
@@ -156,16 +321,16 @@ public class ProductServiceImpl implements ProductService {
     /**
      * 공통 매핑 로직: EventProduct -> EventInfoDTO
      *
-     * @param eventProduct 변환할 EventProduct 엔티티
+     * @param eventProduct 변환할 EventProduct 엔티티 (이벤트가 함께 조회된 상태)
+     * @param product      이벤트 상품의 상품 엔티티
      * @return EventInfoDTO 변환된 이벤트 DTO
      * <p>
      * 동작 방식:
      * - 이벤트와 상품 데이터를 사용하여 할인 가격과 차이를 계산합니다.
      * - 이벤트 정보를 DTO로 변환하여 반환합니다.
      */
-    private EventInfoDTO mapEventProductToEventInfoDto(EventProduct eventProduct) {
+    private EventInfoDTO mapEventProductToEventInfoDto(EventProduct eventProduct, Product product) {
         Event event = eventProduct.getEvent();
-        Product product = eventProduct.getProduct();
 
         BigDecimal discountPrice = product.getPrice()
                 .multiply(BigDecimal.valueOf(1 - (eventProduct.getDiscountRate().doubleValue() / 100)));
@@ -183,101 +348,164 @@ public class ProductServiceImpl implements ProductService {
     }
 
 
-    // [수정 전]
-// - 원래는 DECRBY 등의 로직이 섞여 있었거나, 재고가 충분하면 차감까지 해버렸을 수도 있음
-//   혹은 checkStock 자체가 없을 수도 있었음
-
-    // [수정 후]
-    public boolean checkStock(Long productId, Integer quantity) {
+    /**
+     * 재고 충분 여부를 비동기로 확인합니다.
+     * <p>
+     * 동작 방식:
+     * - Redisson 스크립트 Future에 후속 처리를 연결하여 요청 스레드를 점유하지 않습니다.
+     * - Redis에 재고 키가 없으면 재고 비동기 스레드 풀에서 DB 재고를 적재한 뒤 한 번만 다시 확인합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Redis 전용: DB 커넥션 점유 방지
+    public CompletableFuture<Boolean> checkStockAsync(Long productId, Integer quantity) {
         if (productId == null || quantity == null) {
-            System.err.println("[checkStock] Invalid arguments: productId or quantity is null.");
-            return false;
+            log.warn("[checkStock] Invalid arguments: productId: {}, quantity: {}", productId, quantity);
+            return CompletableFuture.completedFuture(false);
         }
 
-        String stockKey = STOCK_KEY_PREFIX + productId;
-
-        // [수정] 차감 없이 재고 충분 여부만 판단하는 Lua 스크립트
-        String luaScript = """
-                    local stockKey = KEYS[1]
-                    local quantity = tonumber(ARGV[1])
-                    if quantity == nil then
-                        return -1
-                    end
-                    local currentStock = redis.call('GET', stockKey)
-                    if not currentStock then
-                        return -1  -- 키가 없으면 부족으로 간주
-                    end
-                    local stockVal = tonumber(currentStock)
-                    if not stockVal then
-                        return -1  -- 숫자 아님
-                    end
-                    if stockVal < quantity then
-                        return -1  -- 부족
-                    end
-                    return 1      -- 충분
-                """;
-
-        // [기존] Redisson evalAsync 호출부는 같지만, 스크립트만 변경되었음
-        RScript rScript = redissonClient.getScript();
-        RFuture<Long> resultFuture = rScript.evalAsync(
-                RScript.Mode.READ_WRITE,
-                luaScript,
-                RScript.ReturnType.INTEGER,
-                Collections.singletonList(stockKey),
-                String.valueOf(quantity)
-        );
+        return evalCheckStock(productId, quantity)
+                .thenCompose(result -> {
+                    if (result != null && result == -4) {
+                        return stockRedisLoader.loadMissingAsync(List.of(productId))
+                                .thenCompose(loaded -> evalCheckStock(productId, quantity));
+                    }
+                    return CompletableFuture.completedFuture(result);
+                })
+                // 1이면 충분, 나머지(부족/오류)는 false
+                .thenApply(result -> result != null && result > 0);
+    }
 
-        try {
-            Long result = resultFuture.get();
-            System.out.println("[checkStock] Script result = " + result);
-
-            // [수정] result == 1이면 충분, 나머지는 false
-            return (result != null && result > 0);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        } catch (ExecutionException e) {
-            e.getCause().printStackTrace();
-            return false;
-        }
+    private CompletableFuture<Long> evalCheckStock(Long productId, Integer quantity) {
+        // 분할된 상품은 모든 stripe 키의 합계로 판단
+        List<Object> stockKeys = new ArrayList<>(stockStripeRegistry.keysOf(productId));
+        return stockScriptExecutor.evalIntegerAsync(InventoryScript.CHECK_STOCK, stockKeys, String.valueOf(quantity));
     }
 
 
     @Override
-    @Transactional
-    public void decreaseStock(Long productId, Integer quantity) {
-        // Redis와 DB에서 차감 처리
-        boolean isStockUpdated = decreaseStockWithConcurrencyControl(productId, quantity);
-
-        // 차감이 안 된 경우 에러 처리
-        if (!isStockUpdated) {
-            throw new BusinessException(ErrorCode.STOCK_UPDATE_FAILED);
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Redis 전용: DB 커넥션 점유 방지
+    public CompletableFuture<Void> decreaseStockAsync(Long orderId, Long productId, Integer quantity) {
+        // Redis에서 차감 처리 (DB 반영은 write-behind)
+        return decreaseStockWithConcurrencyControl(orderId, productId, quantity)
+                .thenAccept(isStockUpdated -> {
+                    // 차감이 안 된 경우 에러 처리
+                    if (!isStockUpdated) {
+                        throw new BusinessException(ErrorCode.STOCK_UPDATE_FAILED);
+                    }
+                });
     }
 
 
     @Override
-    @Transactional
-    public void increaseStock(Long productId, Integer quantity) {
+    public CompletableFuture<Integer> increaseStockAsync(Long orderId, Long productId, Integer quantity) {
+        return increaseStocksAsync(orderId, List.of(new StockUpdateRequest(productId, quantity, orderId)));
+    }
 
-        Integer stockInRedis = getStockFromRedis(productId);
-        if (stockInRedis == null) {
-            stockInRedis = 0; // Redis에 재고가 없으면 0으로 설정
+    /**
+     * 취소/반품된 주문 라인의 재고를 한 번에 복구합니다.
+     * <p>
+     * 동작 방식:
+     * - 같은 상품이 여러 라인에 있으면 수량을 합산하고, 상품 ID 순으로 정렬합니다.
+     * - 단일 Lua 스크립트로 전체 라인의 Redis 재고를 INCRBY로 증가시킵니다. (Redis 왕복 1회, 읽고 다시 쓰지 않음)
+     * - 증가분은 write-behind 변경분에 함께 누적되어, 플러셔가 조건부 증가 UPDATE로 DB에 일괄 반영합니다.
+     * - 같은 주문·상품의 재요청은 한 번만 증가합니다. (주문 ID + 상품 ID 기준 멱등 키)
+     * - Redis에 적재되지 않은 상품이 있으면 재고 비동기 스레드 풀에서 DB 재고를 적재한 뒤 한 번만 재시도합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Redis 전용: DB 커넥션 점유 방지
+    public CompletableFuture<Integer> increaseStocksAsync(Long orderId, List<StockUpdateRequest> items) {
+        Map<Long, Integer> quantities = StockScriptExecutor.mergeQuantities(items);
+
+        List<Object> fixedKeys = new ArrayList<>(quantities.size() + 2);
+        fixedKeys.add(StockScriptExecutor.STOCK_DELTA_KEY);
+        fixedKeys.add(StockScriptExecutor.STOCK_DELTA_SINCE_KEY);
+        if (orderId != null) {
+            // 라인 순서(상품 ID 오름차순)와 같은 순서로 전달
+            quantities.keySet().forEach(productId ->
+                    fixedKeys.add(StockScriptExecutor.idempotencyKey("increase", orderId, productId)));
         }
+        List<Object> fixedArgs = List.of(String.valueOf(System.currentTimeMillis()),
+                String.valueOf(stockScriptExecutor.idempotencyTtlSeconds()));
+
+        return stockScriptExecutor.evalForLinesAsync(InventoryScript.RESTORE_STOCK, fixedKeys, fixedArgs, quantities)
+                .thenCompose(result -> {
+                    if (result != null && result == -4) {
+                        return stockRedisLoader.loadMissingAsync(quantities.keySet())
+                                .thenCompose(loaded -> stockScriptExecutor.evalForLinesAsync(
+                                        InventoryScript.RESTORE_STOCK, fixedKeys, fixedArgs, quantities));
+                    }
+                    return CompletableFuture.completedFuture(result);
+                })
+                .thenApply(result -> {
+                    if (result == null || result < 0) {
+                        log.warn("[increaseStocks] orderId: {}, Redis script returned {}", orderId, result);
+                        throw new BusinessException(result != null && result == -4
+                                ? ErrorCode.PRODUCT_NOT_FOUND
+                                : ErrorCode.STOCK_UPDATE_FAILED);
+                    }
+                    if (result < quantities.size()) {
+                        log.info("[increaseStocks] orderId: {}, {} of {} lines already restored",
+                                orderId, quantities.size() - result, quantities.size());
+                    }
+                    return result.intValue();
+                });
+    }
 
-        // Redis에서 재고 증가
-        redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, stockInRedis + quantity);
-
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        product.updateStockQuantity(product.getStockQuantity() + quantity);
-        productRepository.save(product);
+    /**
+     * 여러 주문의 재고를 한 번에 복구합니다.
+     * <p>
+     * 동작 방식:
+     * - 주문마다 복구 스크립트를 비동기로 실행하여 Redis 응답을 기다리지 않고 연달아 전송합니다.
+     * - 복구가 주문·상품 단위로 멱등이므로, 묶음 전체를 재요청해도 이미 복구된 라인은 0으로 집계됩니다.
+     * - 하나의 주문이라도 실패하면 실패로 완료됩니다. (호출 측에서 주문 단위로 재시도)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Redis 전용: DB 커넥션 점유 방지
+    public CompletableFuture<Integer> increaseStocksAsync(List<StockReserveRequest> orders) {
+        List<CompletableFuture<Integer>> restores = orders.stream()
+                .filter(order -> order.getItems() != null && !order.getItems().isEmpty())
+                .map(order -> increaseStocksAsync(order.getOrderId(), order.getItems()))
+                .toList();
+        return CompletableFuture.allOf(restores.toArray(CompletableFuture[]::new))
+                .thenApply(done -> restores.stream().mapToInt(CompletableFuture::join).sum());
+    }
 
-        // Redis에 다시 업데이트
-        saveStockToRedis(productId, product.getStockQuantity());
+    /**
+     * 주문에 포함된 여러 상품의 재고를 한 번에 차감합니다.
+     *
+     * @param orderId 주문 ID
+     * @param items   주문 라인별 상품 ID와 수량
+     * <p>
+     * 동작 방식:
+     * - 같은 상품이 여러 라인에 있으면 수량을 합산하고, 상품 ID 순으로 정렬합니다.
+     * - 단일 Lua 스크립트로 전체 라인을 검증 후 차감합니다. (Redis 왕복 1회)
+     * - Redis에 적재되지 않은 상품이 있으면 재고 비동기 스레드 풀에서 DB 재고를 적재한 뒤 한 번만 재시도합니다.
+     * - DB 반영은 write-behind 플러셔가 주기적으로 일괄 처리합니다.
+     * - 같은 주문의 재요청은 한 번만 차감됩니다. (주문 ID 기준 멱등 키)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Redis 전용: DB 커넥션 점유 방지
+    public CompletableFuture<Void> reserveStockAsync(Long orderId, List<StockUpdateRequest> items) {
+        Map<Long, Integer> quantities = StockScriptExecutor.mergeQuantities(items);
+        String idempotencyKey = orderId != null ? StockScriptExecutor.idempotencyKey("reserve", orderId) : null;
+
+        return stockScriptExecutor.evalForQuantitiesAsync(InventoryScript.RESERVE_STOCK, quantities, idempotencyKey)
+                .thenCompose(result -> {
+                    if (result != null && result == -4) {
+                        return stockRedisLoader.loadMissingAsync(quantities.keySet())
+                                .thenCompose(loaded -> stockScriptExecutor.evalForQuantitiesAsync(
+                                        InventoryScript.RESERVE_STOCK, quantities, idempotencyKey));
+                    }
+                    return CompletableFuture.completedFuture(result);
+                })
+                .thenAccept(result -> {
+                    if (result == null || result != 1) {
+                        log.warn("[reserveStock] orderId: {}, Redis script returned {}", orderId, result);
+                        throw new BusinessException(result != null && result == -1
+                                ? ErrorCode.STOCK_NOT_ENOUGH
+                                : ErrorCode.STOCK_UPDATE_FAILED);
+                    }
+                });
     }
 
     @Override
@@ -285,112 +513,139 @@ public class ProductServiceImpl implements ProductService {
         EventProduct eventProduct = eventProductRepository.findByEvent_EventIdAndProduct_ProductId(eventId, productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
 
-        return mapEventProductToEventInfoDto(eventProduct);
+        return mapEventProductToEventInfoDto(eventProduct, eventProduct.getProduct());
     }
 
-    private void saveStockToRedis(Long productId, int quantity) {
-        String redisKey = STOCK_KEY_PREFIX + productId;
-        redisTemplate.opsForValue().set(redisKey, quantity);
+    // 단일 상품 재고 차감 (분할된 상품은 stripe 하나씩 시도)
+    public CompletableFuture<Boolean> decreaseStockWithConcurrencyControl(Long orderId, Long productId, int quantity) {
+        // 같은 주문·상품의 재요청은 한 번만 차감 (orderId가 없으면 구분하지 않음)
+        String idempotencyKey = orderId != null
+                ? StockScriptExecutor.idempotencyKey("decrease", orderId, productId)
+                : null;
+
+        // 분할된 상품은 임의의 stripe부터 시도하고, 부족하면 다음 stripe로 넘어감
+        List<String> stockKeys = stockStripeRegistry.keysOf(productId);
+        int start = ThreadLocalRandom.current().nextInt(stockKeys.size());
+        return decreaseFromStripes(productId, quantity, stockKeys, start, 0, idempotencyKey);
     }
 
-    // [추가/수정] 새로운 or 변경된 메서드
-    @Transactional
-    public boolean decreaseStockWithConcurrencyControl(Long productId, int quantity) {
-        String redisKey = STOCK_KEY_PREFIX + productId;
-
-        // [수정] Lua 스크립트: 재고를 실제로 차감(DECRBY)
-        String luaScript = """
-                    -- 수량 파라미터(문자열) 디버깅
-                    local quantityStr = ARGV[1]
-                    redis.call('SET', 'debug_quantityArg', quantityStr)  -- 디버깅: 원본 ARGV[1] 저장
-                
-                    local quantity = tonumber(quantityStr)
-                    if not quantity then
-                        -- 변환 실패 시
-                        redis.call('SET', 'debug_quantityError', 'Failed to convert ARGV[1] to number.')
-                        return -2 -- 수량 변환 실패
-                    end
-                
-                    local stockKey = KEYS[1]
-                    local currentStockStr = redis.call('GET', stockKey)
-                    if not currentStockStr then
-                        -- 키가 없으면 0으로 초기화
-                        redis.call('SET', stockKey, 0)
-                        currentStockStr = "0"
-                    end
-                
-                    -- 재고 문자열 디버깅
-                    redis.call('SET', 'debug_currentStockStr', currentStockStr)
-                
-                    local currentStock = tonumber(currentStockStr)
-                    if not currentStock then
-                        redis.call('SET', 'debug_stockError', 'Current stock is not a valid number.')
-                        return -3 -- 재고 값이 숫자 아님
-                    end
-                
-                    if currentStock < quantity then
-                        redis.call('SET', 'debug_stockError', 'Not enough stock!')
-                        return -1 -- 재고 부족
-                    end
-                
-                    -- 충분하면 차감
-                    local newStock = redis.call('DECRBY', stockKey, quantity)
-                    redis.call('SET', 'debug_newStock', newStock)  -- 차감 후 재고 값 디버깅
-                    return newStock
-                """;
-
-        String argStr = String.valueOf(quantity);
-        System.out.println(">>> Final ARGV[1] = " + argStr);  // 여기서 직접 콘솔에 어떤 값이 찍히는지 확인
-
-        RScript rScript = redissonClient.getScript();
-        RFuture<Long> redisFuture = rScript.evalAsync(
-                RScript.Mode.READ_WRITE,
-                luaScript,
-                RScript.ReturnType.INTEGER,
-                Collections.singletonList(redisKey),
-                argStr
-        );
-        try {
-            Long redisResult = redisFuture.get();
-            System.out.println("[decreaseStockWithConcurrencyControl] Redis result = " + redisResult);
-
-            if (redisResult != null && redisResult >= 0) {
-                // [수정] Redis 차감 성공 시 → DB 차감
-                Product product = productRepository.findById(productId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-                if (product.getStockQuantity() < quantity) {
-                    throw new BusinessException(ErrorCode.STOCK_NOT_ENOUGH);
-                }
+    private CompletableFuture<Boolean> decreaseFromStripes(Long productId, int quantity, List<String> stockKeys,
+                                                           int start, int attempt, String idempotencyKey) {
+        String redisKey = stockKeys.get((start + attempt) % stockKeys.size());
+
+        return decreaseStripe(productId, redisKey, quantity, stockKeys.size(), idempotencyKey)
+                .thenCompose(redisResult -> {
+                    if (redisResult != null && redisResult >= 0) {
+                        // Redis 차감 성공 → DB 반영은 write-behind 플러셔가 주기적으로 일괄 처리
+                        if (attempt > 0) {
+                            // 처음 고른 stripe가 부족했으므로 stripe 간 재고를 다시 고르게 나눔 (응답과 무관하게 처리)
+                            scheduleRebalance(productId);
+                        }
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    if (redisResult != null && redisResult == -1 && attempt + 1 < stockKeys.size()) {
+                        return decreaseFromStripes(productId, quantity, stockKeys, start, attempt + 1, idempotencyKey);
+                    }
+                    if (redisResult != null && redisResult == -4) {
+                        // 아직 Redis에 적재되지 않은 상품 → DB 재고 적재 후 전체 stripe 합계 기준으로 한 번만 재시도
+                        return stockRedisLoader.loadMissingAsync(List.of(productId))
+                                .thenCompose(loaded -> stockScriptExecutor.evalForQuantitiesAsync(
+                                        InventoryScript.RESERVE_STOCK, Map.of(productId, quantity), idempotencyKey))
+                                .thenApply(result -> result != null && result == 1);
+                    }
 
-                product.reduceStock(quantity);
-                productRepository.save(product);
+                    // 단일 stripe로는 부족하거나 분할 설정이 바뀐 경우 전체 stripe 합계 기준으로 차감
+                    if (stockKeys.size() > 1 || (redisResult != null && redisResult == -6)) {
+                        return stockScriptExecutor.evalForQuantitiesAsync(
+                                        InventoryScript.RESERVE_STOCK, Map.of(productId, quantity), idempotencyKey)
+                                .thenApply(result -> result != null && result == 1);
+                    }
 
-                return true;
-            } else {
-                // -1(재고 부족), -2, -3, null 등
-                System.err.println("[decreaseStock] Redis script returned " + redisResult);
-                return false;
-            }
+                    // -1(재고 부족), -2, -3, null 등
+                    log.warn("[decreaseStock] productId: {}, Redis script returned {}", productId, redisResult);
+                    return CompletableFuture.completedFuture(false);
+                });
+    }
+
+    /**
+     * 상품의 stripe 재분배를 재고 비동기 스레드 풀에 예약합니다.
+     * - 이미 대기 중인 재분배가 있으면 예약하지 않습니다. (실행 시작 시 대기 표시를 지워, 실행 중 생긴 치우침은 다음 예약이 처리)
+     * - 스레드 풀이 가득 차면 로그만 남깁니다. (차감은 이미 성공했으므로 요청을 실패시키지 않음)
+     */
+    private void scheduleRebalance(Long productId) {
+        if (!pendingRebalances.add(productId)) {
+            return;
+        }
+        try {
+            stockTaskExecutor.execute(() -> {
+                pendingRebalances.remove(productId);
+                try {
+                    stockStripeService.rebalance(productId);
+                } catch (RuntimeException e) {
+                    log.warn("[rebalance] productId: {}, rebalance failed: {}", productId, e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingRebalances.remove(productId);
+            log.warn("[rebalance] productId: {}, skipped (stock task executor is full)", productId);
+        }
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        } catch (ExecutionException e) {
-            e.getCause().printStackTrace();
-            return false;
+    private CompletableFuture<Long> decreaseStripe(Long productId, String redisKey, int quantity, int stripes,
+                                                   String idempotencyKey) {
+        List<Object> keys = new ArrayList<>(Arrays.asList(redisKey, StockScriptExecutor.STOCK_DELTA_KEY,
+                StockScriptExecutor.STOCK_DELTA_SINCE_KEY, StockStripeRegistry.STRIPES_KEY));
+        if (idempotencyKey != null) {
+            keys.add(idempotencyKey);
         }
+
+        return stockScriptExecutor.evalIntegerAsync(
+                InventoryScript.DECREASE_STRIPE,
+                keys,
+                String.valueOf(quantity),
+                String.valueOf(productId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(stripes),
+                String.valueOf(stockScriptExecutor.idempotencyTtlSeconds())
+        );
     }
 
 
     /**
-     * Redis에서 재고를 가져옵니다.
+     * 여러 상품의 재고를 Redis에서 한 번에 가져옵니다.
      *
-     * @param productId 상품 ID
-     * @return 현재 재고 수량
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 현재 재고 수량 (분할된 상품은 stripe 합계, Redis에 없는 상품은 제외, 수정 가능한 Map)
+     * <p>
+     * 동작 방식:
+     * - 모든 상품의 재고 키(분할된 상품은 stripe 키 전체)를 모아 MGET 1회로 조회합니다.
+     * - 응답을 상품별 키 개수만큼 잘라 합산합니다.
      */
-    private Integer getStockFromRedis(Long productId) {
-        String redisKey = STOCK_KEY_PREFIX + productId;
-        return (Integer) redisTemplate.opsForValue().get(redisKey);
+    private Map<Long, Integer> getStocksFromRedis(List<Long> productIds) {
+        Map<Long, Integer> stocks = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+        List<List<String>> productKeys = productIds.stream().map(stockStripeRegistry::keysOf).toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                productKeys.stream().flatMap(List::stream).toList());
+        if (values == null) {
+            return stocks;
+        }
+
+        int offset = 0;
+        for (int i = 0; i < productIds.size(); i++) {
+            List<Object> stripeStocks = values.subList(offset, offset + productKeys.get(i).size());
+            offset += productKeys.get(i).size();
+            if (stripeStocks.stream().allMatch(Objects::isNull)) {
+                continue;
+            }
+            stocks.put(productIds.get(i), stripeStocks.stream()
+                    .filter(Objects::nonNull)
+                    .mapToInt(stock -> ((Number) stock).intValue())
+                    .sum());
+        }
+        return stocks;
     }
 
 }
\ No newline at end of file
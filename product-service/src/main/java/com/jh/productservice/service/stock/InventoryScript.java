@@ -0,0 +1,36 @@
+package com.jh.productservice.service.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+
+/**
+ * 재고 Lua 스크립트 목록
+ * - 스크립트 원문: classpath:scripts/inventory/{name}.v{version}.lua
+ * - 버전은 stock.scripts.versions.{name} 설정으로 바꿀 수 있어, 새 버전 파일을 먼저 배포한 뒤 설정만 바꿔 전환/롤백합니다.
+ * - linesPrelude가 true인 스크립트는 lines_prelude.lua(주문 라인 공통 코드)를 앞에 붙여 로드합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum InventoryScript {
+
+    CHECK_STOCK("check_stock", 1, RScript.ReturnType.INTEGER, false),
+    DECREASE_STRIPE("decrease_stripe", 2, RScript.ReturnType.INTEGER, false),
+    RESTORE_STOCK("restore_stock", 1, RScript.ReturnType.INTEGER, true),
+    RESERVE_STOCK("reserve_stock", 1, RScript.ReturnType.INTEGER, true),
+    LOAD_STOCK("load_stock", 1, RScript.ReturnType.INTEGER, true),
+    // v2: 상품별 선점 합계(stock:hold:totals)를 함께 갱신 (StockReconciler가 읽음)
+    // hold_stock v3: 이미 해제된 주문의 재선점 요청에 -7 반환
+    HOLD_STOCK("hold_stock", 3, RScript.ReturnType.INTEGER, true),
+    COMMIT_HOLD("commit_hold", 2, RScript.ReturnType.MULTI, false),
+    // release_hold v3: 선점 라인과 재고 키를 호출 측에서 전달 (lines_prelude 사용, 이전 버전과 키 구성이 달라 v1/v2 삭제)
+    RELEASE_HOLD("release_hold", 3, RScript.ReturnType.INTEGER, true),
+    RESTRIPE("restripe", 1, RScript.ReturnType.INTEGER, false),
+    ROTATE_DELTA("rotate_delta", 1, RScript.ReturnType.INTEGER, false),
+    RECONCILE_ADJUST("reconcile_adjust", 1, RScript.ReturnType.INTEGER, false);
+
+    private final String scriptName;
+    private final int defaultVersion;
+    private final RScript.ReturnType returnType;
+    private final boolean linesPrelude;
+}
@@ -0,0 +1,182 @@
+package com.jh.productservice.service.stock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 Lua 스크립트 저장소
+ * - 기동 시 스크립트 원문과 SHA1을 한 번만 계산하고 Redis에 미리 적재(SCRIPT LOAD)합니다.
+ * - 실행은 EVALSHA로 SHA만 전송하며, Redis 재시작/SCRIPT FLUSH로 NOSCRIPT가 나면 다시 적재한 뒤 한 번만 재시도합니다.
+ * - 스크립트별 실행 시간과 결과 코드를 stock.script 지표로 기록합니다. (tag: script, version, result)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryScriptRegistry {
+
+    private static final String SCRIPT_LOCATION = "scripts/inventory/";
+    private static final String LINES_PRELUDE = "lines_prelude.lua";
+    private static final String VERSION_PROPERTY_PREFIX = "stock.scripts.versions.";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<InventoryScript, LoadedScript> scripts = new EnumMap<>(InventoryScript.class);
+
+    private record LoadedScript(InventoryScript script, int version, String source, String sha) {
+    }
+
+    /**
+     * 스크립트 원문을 읽고 SHA1을 계산합니다. (파일이 없으면 기동 실패)
+     */
+    @PostConstruct
+    void readScripts() {
+        String prelude = read(LINES_PRELUDE);
+        for (InventoryScript script : InventoryScript.values()) {
+            int version = environment.getProperty(VERSION_PROPERTY_PREFIX + script.getScriptName(),
+                    Integer.class, script.getDefaultVersion());
+            String body = read(script.getScriptName() + ".v" + version + ".lua");
+            String source = script.isLinesPrelude() ? prelude + "\n" + body : body;
+            scripts.put(script, new LoadedScript(script, version, source, sha1(source)));
+        }
+    }
+
+    /**
+     * 모든 스크립트를 Redis에 미리 적재합니다. (재고 warm-up 등 ApplicationRunner보다 먼저 실행)
+     * - 실패해도 기동은 계속하고, 첫 실행 시 NOSCRIPT 처리로 다시 적재합니다.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void preload() {
+        scripts.values().forEach(loaded -> {
+            try {
+                load(loaded).join();
+                log.info("[InventoryScriptRegistry] loaded {} v{} ({})",
+                        loaded.script().getScriptName(), loaded.version(), loaded.sha());
+            } catch (Exception e) {
+                log.warn("[InventoryScriptRegistry] preload failed: {}", loaded.script().getScriptName(), e);
+            }
+        });
+    }
+
+    /**
+     * 스크립트를 EVALSHA로 실행합니다.
+     *
+     * @param script 실행할 스크립트
+     * @param keys   KEYS
+     * @param args   ARGV
+     * @return 스크립트 결과로 완료되는 Future (Redis 오류 시 예외로 완료)
+     */
+    public <T> CompletableFuture<T> evalAsync(InventoryScript script, List<Object> keys, Object... args) {
+        LoadedScript loaded = scripts.get(script);
+        long startedAt = System.nanoTime();
+
+        return this.<T>evalSha(loaded, keys, args)
+                .exceptionallyCompose(e -> {
+                    if (!isNoScript(e)) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                    log.warn("[InventoryScriptRegistry] NOSCRIPT, reloading {}", script.getScriptName());
+                    return load(loaded).thenCompose(sha -> this.<T>evalSha(loaded, keys, args));
+                })
+                .whenComplete((result, e) -> record(loaded, startedAt, result, e));
+    }
+
+    private <T> CompletableFuture<T> evalSha(LoadedScript loaded, List<Object> keys, Object... args) {
+        return redissonClient.getScript().<T>evalShaAsync(
+                RScript.Mode.READ_WRITE, loaded.sha(), loaded.script().getReturnType(), keys, args
+        ).toCompletableFuture();
+    }
+
+    private CompletableFuture<String> load(LoadedScript loaded) {
+        return redissonClient.getScript().scriptLoadAsync(loaded.source()).toCompletableFuture()
+                .thenApply(sha -> {
+                    if (!loaded.sha().equalsIgnoreCase(sha)) {
+                        log.warn("[InventoryScriptRegistry] SHA mismatch for {}: local {}, redis {}",
+                                loaded.script().getScriptName(), loaded.sha(), sha);
+                    }
+                    return sha;
+                });
+    }
+
+    private void record(LoadedScript loaded, long startedAt, Object result, Throwable error) {
+        Timer.builder("stock.script")
+                .description("재고 Lua 스크립트 실행 시간")
+                .tag("script", loaded.script().getScriptName())
+                .tag("version", String.valueOf(loaded.version()))
+                .tag("result", resultTag(result, error))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 결과 코드 태그: 음수 코드는 그대로, 그 외 정상 결과는 ok로 묶어 태그 수를 제한합니다.
+     */
+    private static String resultTag(Object result, Throwable error) {
+        if (error != null) {
+            return "error";
+        }
+        if (result instanceof Long code && code < 0) {
+            return String.valueOf(code);
+        }
+        if (result instanceof List<?> items && items.isEmpty()) {
+            return "empty";
+        }
+        return result == null ? "null" : "ok";
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CompletionException) {
+                continue;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String read(String fileName) {
+        try {
+            return new ClassPathResource(SCRIPT_LOCATION + fileName).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 스크립트를 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+
+    private static String sha1(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
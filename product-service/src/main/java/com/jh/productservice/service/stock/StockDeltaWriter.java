@@ -0,0 +1,101 @@
+package com.jh.productservice.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * write-behind 재고 변경분을 product 테이블에 일괄 반영하는 컴포넌트
+ */
+@Component
+@RequiredArgsConstructor
+public class StockDeltaWriter {
+
+    private static final String INSERT_FLUSH_LOG_SQL =
+            "INSERT IGNORE INTO stock_flush_log (batch_id, flushed_at) VALUES (?, ?)";
+
+    // 음수 결과도 그대로 반영 (초과 판매/중복 반영을 0으로 가리지 않고 대사에서 차이로 드러나게 함)
+    private static final String UPDATE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity + ?, modified_at = ? WHERE product_id = ?";
+
+    private static final String SELECT_NEGATIVE_SQL =
+            "SELECT product_id FROM product WHERE stock_quantity < 0 AND product_id IN (%s)";
+
+    private static final String DELETE_FLUSH_LOG_SQL =
+            "DELETE FROM stock_flush_log WHERE flushed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 반영 결과
+     *
+     * @param applied            이번 호출에서 반영했으면 true, 이미 반영된 배치면 false
+     * @param negativeProductIds 반영 후 재고가 음수가 된 상품 ID (차감한 상품만 확인)
+     */
+    public record BatchResult(boolean applied, List<Long> negativeProductIds) {
+
+        static final BatchResult ALREADY_APPLIED = new BatchResult(false, List.of());
+    }
+
+    /**
+     * 배치 하나의 상품별 변경분을 한 트랜잭션으로 반영합니다.
+     *
+     * @param batchId 배치 ID
+     * @param deltas  상품 ID별 재고 변경분 (차감은 음수)
+     * @return 반영 여부와 재고가 음수가 된 상품 ID
+     * <p>
+     * 동작 방식:
+     * - 반영 이력을 먼저 기록하고, 이미 기록된 배치면 UPDATE 없이 종료합니다.
+     * - 상품별 UPDATE를 JDBC 배치로 한 번에 전송합니다. (결과가 음수여도 0으로 고치지 않음)
+     * - 차감한 상품 중 재고가 음수가 된 상품을 같은 트랜잭션에서 조회해 반환합니다.
+     */
+    @Transactional
+    public BatchResult applyBatch(String batchId, Map<Long, Long> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(INSERT_FLUSH_LOG_SQL, batchId, now) == 0) {
+            return BatchResult.ALREADY_APPLIED;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        List<Long> decreased = new ArrayList<>();
+        deltas.forEach((productId, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[]{delta, now, productId});
+            }
+            if (delta < 0) {
+                decreased.add(productId);
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STOCK_SQL, args);
+        }
+        return new BatchResult(true, findNegative(decreased));
+    }
+
+    private List<Long> findNegative(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        return jdbcTemplate.queryForList(
+                String.format(SELECT_NEGATIVE_SQL, placeholders), Long.class, productIds.toArray());
+    }
+
+    /**
+     * 보관 기간이 지난 반영 이력을 삭제합니다.
+     *
+     * @param before 이 시각 이전 이력 삭제
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeFlushLog(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_FLUSH_LOG_SQL, before);
+    }
+}
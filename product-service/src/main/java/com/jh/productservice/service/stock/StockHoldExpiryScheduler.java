@@ -0,0 +1,31 @@
+package com.jh.productservice.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 선점을 주기적으로 해제하는 스케줄러
+ * - 여러 인스턴스에서 동시에 실행되어도 해제 스크립트가 원자적이므로 중복 복구되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldExpiryScheduler {
+
+    private static final int SWEEP_BATCH_SIZE = 200;
+
+    private final StockHoldService stockHoldService;
+
+    @Scheduled(fixedDelayString = "${stock.hold.sweep-interval-ms:5000}")
+    public void releaseExpiredHolds() {
+        int released;
+        do {
+            released = stockHoldService.releaseExpiredHolds(SWEEP_BATCH_SIZE);
+            if (released > 0) {
+                log.info("[StockHoldExpiryScheduler] Released {} expired stock holds", released);
+            }
+        } while (released == SWEEP_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,71 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.productservice.domain.product.dto.StockUpdateRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface StockHoldService {
+
+    /**
+     * 주문 대기 시간 동안 주문 라인의 재고를 선점합니다.
+     *
+     * @param orderId    주문 ID
+     * @param ttlSeconds 선점 유지 시간 (초)
+     * @param items      주문 라인별 상품 ID와 수량
+     *
+     * 사용 예:
+     * - 주문 대기 생성 시 재고를 미리 차감하여, 결제 단계에서 재고 부족으로 실패하는 주문을 줄임
+     * - 같은 주문으로 다시 요청하면 기존 선점을 그대로 유지 (이미 해제된 주문이면 STOCK_HOLD_RELEASED 예외)
+     * - 요청 스레드를 점유하지 않고, Redis 응답 시 완료되는 Future 반환
+     */
+    CompletableFuture<Void> holdStockAsync(Long orderId, long ttlSeconds, List<StockUpdateRequest> items);
+
+    /**
+     * 결제 완료 시 선점한 재고를 확정합니다.
+     *
+     * @param orderId 주문 ID
+     *
+     * 사용 예:
+     * - 선점이 없거나 만료된 경우 예외 발생
+     * - 같은 주문으로 다시 요청하면 처음 확정한 결과를 그대로 반환 (재고는 한 번만 확정)
+     */
+    CompletableFuture<Void> commitHoldAsync(Long orderId);
+
+    /**
+     * 선점한 재고를 해제하여 판매 가능 재고로 되돌립니다.
+     *
+     * @param orderId 주문 ID
+     * @return 복구된 상품 라인 수 (선점이 없으면 0)
+     */
+    int releaseHold(Long orderId);
+
+    /**
+     * releaseHold의 비동기 버전 (API 요청 처리용)
+     *
+     * @param orderId 주문 ID
+     * @return 복구된 상품 라인 수로 완료되는 Future
+     */
+    CompletableFuture<Integer> releaseHoldAsync(Long orderId);
+
+    /**
+     * 여러 주문의 선점을 한 번에 해제합니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 복구된 상품 라인 수 합계로 완료되는 Future
+     *
+     * 사용 예:
+     * - 결제 시간이 지난 주문들의 선점을 주문마다 요청하지 않고 한 번에 해제
+     * - 선점이 없거나 이미 해제/확정된 주문은 0으로 집계 (재요청해도 한 번만 복구)
+     */
+    CompletableFuture<Integer> releaseHoldsAsync(Collection<Long> orderIds);
+
+    /**
+     * 만료 시각이 지난 선점을 일괄 해제합니다.
+     *
+     * @param limit 한 번에 처리할 최대 주문 수
+     * @return 해제된 주문 수
+     */
+    int releaseExpiredHolds(int limit);
+}
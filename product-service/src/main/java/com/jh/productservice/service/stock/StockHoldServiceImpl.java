@@ -0,0 +1,212 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.productservice.domain.product.dto.StockUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 단위 재고 선점(hold) 원장
+ * - stock:hold:{orderId}  : 상품 ID별 선점 수량 (Hash)
+ * - stock:hold:expiry     : 주문 ID별 선점 만료 시각 (Sorted Set, score = epoch millis)
+ * - stock:hold:totals     : 상품 ID별 선점 수량 합계 (Hash, 선점/확정/해제 스크립트가 함께 갱신)
+ * 선점 시 판매 가능 재고(stock:product:{id})를 바로 차감하고,
+ * 결제 완료 시 확정(commit), 만료/취소 시 해제(release)하여 재고를 되돌립니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldServiceImpl implements StockHoldService {
+
+    static final String HOLD_KEY_PREFIX = "stock:hold:";
+    static final String HOLD_EXPIRY_KEY = "stock:hold:expiry";
+    static final String HOLD_TOTALS_KEY = "stock:hold:totals";
+
+    // 선점 스크립트 v1의 Hash TTL 여유 시간 (v2는 TTL 없이 확정/해제 스크립트만 삭제)
+    private static final long HOLD_GRACE_SECONDS = 600;
+
+    private final StockScriptExecutor stockScriptExecutor;
+    private final StockRedisLoader stockRedisLoader;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 주문 대기 시간 동안 주문 라인의 재고를 선점합니다.
+     * <p>
+     * 동작 방식:
+     * - 전체 라인을 검증한 뒤 판매 가능 재고를 차감하고, 선점 수량과 만료 시각을 기록합니다. (Redis 왕복 1회)
+     * - Redis에 적재되지 않은 상품이 있으면 재고 비동기 스레드 풀에서 DB 재고를 적재한 뒤 한 번만 재시도합니다.
+     * - 이미 해제(만료/취소)된 주문은 다시 선점하지 않고 실패로 응답합니다. (선점 없이 결제로 넘어가지 않도록)
+     */
+    @Override
+    public CompletableFuture<Void> holdStockAsync(Long orderId, long ttlSeconds, List<StockUpdateRequest> items) {
+        if (orderId == null || ttlSeconds <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+        Map<Long, Integer> quantities = StockScriptExecutor.mergeQuantities(items);
+
+        return evalHoldScript(orderId, ttlSeconds, quantities)
+                .thenCompose(result -> {
+                    if (result != null && result == -4) {
+                        return stockRedisLoader.loadMissingAsync(quantities.keySet())
+                                .thenCompose(loaded -> evalHoldScript(orderId, ttlSeconds, quantities));
+                    }
+                    return CompletableFuture.completedFuture(result);
+                })
+                .thenAccept(result -> {
+                    if (result == null || result < 1) {
+                        log.warn("[holdStock] orderId: {}, Redis script returned {}", orderId, result);
+                        throw new BusinessException(holdFailure(result));
+                    }
+                });
+    }
+
+    /**
+     * 결제 완료 시 선점한 재고를 확정합니다.
+     * <p>
+     * 동작 방식:
+     * - Redis 선점 정보를 삭제하고, 확정된 수량을 write-behind 변경분으로 옮깁니다. (Redis 왕복 1회)
+     * - DB 재고 차감은 write-behind 플러셔가 주기적으로 일괄 처리합니다.
+     */
+    @Override
+    public CompletableFuture<Void> commitHoldAsync(Long orderId) {
+        return stockScriptExecutor.evalMultiAsync(
+                InventoryScript.COMMIT_HOLD,
+                List.of(holdKey(orderId), HOLD_EXPIRY_KEY,
+                        StockScriptExecutor.STOCK_DELTA_KEY, StockScriptExecutor.STOCK_DELTA_SINCE_KEY,
+                        StockScriptExecutor.idempotencyKey("commit", orderId), HOLD_TOTALS_KEY),
+                String.valueOf(orderId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(stockScriptExecutor.idempotencyTtlSeconds())
+        ).thenAccept(items -> {
+            if (items.isEmpty()) {
+                throw new BusinessException(ErrorCode.STOCK_HOLD_NOT_FOUND);
+            }
+            log.debug("[commitHold] orderId: {}, committed lines: {}", orderId, items.size() / 2);
+        });
+    }
+
+    @Override
+    public int releaseHold(Long orderId) {
+        return releaseHoldAsync(orderId).join();
+    }
+
+    /**
+     * 선점한 재고를 비동기로 해제합니다.
+     * <p>
+     * 동작 방식:
+     * - 선점 Hash를 먼저 읽고, 선점된 상품의 재고 키를 모두 KEYS로 전달해 해제 스크립트를 실행합니다.
+     *   (스크립트 안에서 키를 만들지 않아 Redis Cluster에서도 접근 키가 모두 선언됨)
+     * - 읽은 뒤 선점 내용이 달라졌으면(-7) 다시 읽고 한 번만 재시도합니다.
+     */
+    @Override
+    public CompletableFuture<Integer> releaseHoldAsync(Long orderId) {
+        return readHoldAndRelease(orderId)
+                .thenCompose(result -> result != null && result == -7
+                        ? readHoldAndRelease(orderId)
+                        : CompletableFuture.completedFuture(result))
+                .thenApply(released -> {
+                    if (released == null || released < 0) {
+                        log.warn("[releaseHold] orderId: {}, Redis script returned {}", orderId, released);
+                        return 0;
+                    }
+                    return released.intValue();
+                });
+    }
+
+    /**
+     * 여러 주문의 선점을 한 번에 해제합니다.
+     * <p>
+     * 동작 방식:
+     * - 주문마다 해제 스크립트를 비동기로 실행하여 Redis 응답을 기다리지 않고 연달아 전송합니다.
+     * - 해제 스크립트가 주문 단위로 멱등이므로 중복된 주문 ID나 재요청은 0으로 집계됩니다.
+     */
+    @Override
+    public CompletableFuture<Integer> releaseHoldsAsync(Collection<Long> orderIds) {
+        List<CompletableFuture<Integer>> releases = orderIds.stream()
+                .distinct()
+                .map(this::releaseHoldAsync)
+                .toList();
+        return CompletableFuture.allOf(releases.toArray(CompletableFuture[]::new))
+                .thenApply(done -> releases.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+    /**
+     * 만료 시각이 지난 선점을 일괄 해제합니다.
+     * <p>
+     * 동작 방식:
+     * - 만료된 주문 ID를 최대 limit건 읽고, releaseHoldsAsync로 해제 요청을 연달아 보낸 뒤 한 번만 기다립니다.
+     */
+    @Override
+    public int releaseExpiredHolds(int limit) {
+        Collection<String> expiredOrderIds = redissonClient
+                .<String>getScoredSortedSet(HOLD_EXPIRY_KEY, StringCodec.INSTANCE)
+                .valueRange(Double.NEGATIVE_INFINITY, true, System.currentTimeMillis(), true, 0, limit);
+        if (expiredOrderIds.isEmpty()) {
+            return 0;
+        }
+
+        releaseHoldsAsync(expiredOrderIds.stream().map(Long::valueOf).toList()).join();
+        return expiredOrderIds.size();
+    }
+
+    private CompletableFuture<Long> evalHoldScript(Long orderId, long ttlSeconds, Map<Long, Integer> quantities) {
+        return stockScriptExecutor.evalForLinesAsync(
+                InventoryScript.HOLD_STOCK,
+                List.of(holdKey(orderId), HOLD_EXPIRY_KEY,
+                        StockScriptExecutor.idempotencyKey("commit", orderId),
+                        StockScriptExecutor.idempotencyKey("release", orderId),
+                        HOLD_TOTALS_KEY),
+                List.of(String.valueOf(orderId),
+                        String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000),
+                        String.valueOf(ttlSeconds + HOLD_GRACE_SECONDS)),
+                quantities
+        );
+    }
+
+    private CompletableFuture<Long> readHoldAndRelease(Long orderId) {
+        return redissonClient.<String, String>getMap(holdKey(orderId), StringCodec.INSTANCE)
+                .readAllMapAsync()
+                .toCompletableFuture()
+                .thenCompose(held -> {
+                    Map<Long, Integer> quantities = new TreeMap<>();
+                    held.forEach((productId, quantity) ->
+                            quantities.put(Long.valueOf(productId), Integer.valueOf(quantity)));
+                    return stockScriptExecutor.evalForLinesAsync(
+                            InventoryScript.RELEASE_HOLD,
+                            List.of(holdKey(orderId), HOLD_EXPIRY_KEY,
+                                    StockScriptExecutor.idempotencyKey("release", orderId), HOLD_TOTALS_KEY),
+                            List.of(String.valueOf(orderId),
+                                    String.valueOf(stockScriptExecutor.idempotencyTtlSeconds())),
+                            quantities
+                    );
+                })
+                .exceptionally(e -> {
+                    log.error("[releaseHold] orderId: {}, failed to read hold", orderId, e);
+                    return null;
+                });
+    }
+
+    private static ErrorCode holdFailure(Long result) {
+        if (result != null && result == -1) {
+            return ErrorCode.STOCK_NOT_ENOUGH;
+        }
+        if (result != null && result == -7) {
+            return ErrorCode.STOCK_HOLD_RELEASED;
+        }
+        return ErrorCode.STOCK_UPDATE_FAILED;
+    }
+
+    private static String holdKey(Long orderId) {
+        return HOLD_KEY_PREFIX + orderId;
+    }
+}
@@ -0,0 +1,356 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.productservice.domain.product.entity.Product;
+import com.jh.productservice.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고와 DB 재고 대사(reconciliation)
+ * - 기대 Redis 재고 = DB 재고 + DB 미반영 변경분(write-behind) - 선점 수량(stock:hold:totals)
+ * - 주기마다 상품 ID 커서 기준 청크 하나만 확인하고, 커서는 Redis에 저장하여 인스턴스 재시작/교체 후에도 이어서 진행합니다.
+ * - 처리 중인 요청과의 경합으로 생긴 일시적 차이를 걸러내기 위해, 다음 주기에 같은 차이가 다시 확인된 경우에만 확정합니다.
+ * - 확정된 차이는 정책(stock.reconcile.policy)에 따라 Redis 재고를 보정(repair)하거나 경보(alert)만 남깁니다.
+ * - 재고 키를 SCAN하여 DB에 없는 상품, 분할 설정과 맞지 않는 stripe 키를 별도 주기로 찾습니다. (보고만 하고 삭제하지 않음)
+ */
+@Component
+@Slf4j
+public class StockReconciler {
+
+    private static final String CURSOR_KEY = "stock:reconcile:cursor";
+    private static final String SUSPECTS_KEY = "stock:reconcile:suspects";   // 상품 ID → 직전 주기에 확인한 차이
+    private static final String LOCK_KEY = "stock:reconcile:lock";
+
+    private static final String POLICY_REPAIR = "repair";
+
+    private final RedissonClient redissonClient;
+    private final ProductRepository productRepository;
+    private final StockScriptExecutor stockScriptExecutor;
+    private final StockStripeRegistry stockStripeRegistry;
+
+    @Value("${stock.reconcile.batch-size:200}")
+    private int batchSize;
+
+    @Value("${stock.reconcile.policy:alert}")
+    private String policy;
+
+    @Value("${stock.reconcile.max-repair:100}")
+    private long maxRepair;
+
+    private final AtomicLong driftProducts = new AtomicLong();
+    private final AtomicLong driftUnits = new AtomicLong();
+    private final AtomicLong orphanKeys = new AtomicLong();
+    private final Counter checkedProducts;
+    private final Counter repairedProducts;
+    private final Counter alertedProducts;
+
+    public StockReconciler(RedissonClient redissonClient,
+                           ProductRepository productRepository,
+                           StockScriptExecutor stockScriptExecutor,
+                           StockStripeRegistry stockStripeRegistry,
+                           MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.productRepository = productRepository;
+        this.stockScriptExecutor = stockScriptExecutor;
+        this.stockStripeRegistry = stockStripeRegistry;
+
+        Gauge.builder("stock.reconcile.drift.products", driftProducts, AtomicLong::get)
+                .description("직전 대사에서 차이가 확정된 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.reconcile.drift.units", driftUnits, AtomicLong::get)
+                .description("직전 대사에서 확정된 재고 차이 합계 (절댓값)")
+                .register(meterRegistry);
+        Gauge.builder("stock.reconcile.orphan.keys", orphanKeys, AtomicLong::get)
+                .description("DB 상품/분할 설정과 맞지 않는 재고 키 수")
+                .register(meterRegistry);
+        this.checkedProducts = Counter.builder("stock.reconcile.checked")
+                .description("대사한 상품 수")
+                .register(meterRegistry);
+        this.repairedProducts = Counter.builder("stock.reconcile.repaired")
+                .description("Redis 재고를 보정한 상품 수")
+                .register(meterRegistry);
+        this.alertedProducts = Counter.builder("stock.reconcile.alerts")
+                .description("보정하지 않고 경보만 남긴 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 재고와 DB 재고의 차이
+     *
+     * @param redisStock Redis 재고 합계 (stripe 합계)
+     * @param expected   기대 Redis 재고
+     * @param stripes    확인 시점의 stripe 수
+     */
+    private record Drift(long redisStock, long expected, int stripes) {
+        long amount() {
+            return redisStock - expected;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reconcile.interval-ms:10000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return; // 다른 인스턴스가 대사 중
+        }
+        try {
+            confirmSuspects();
+            checkNextChunk();
+        } catch (RuntimeException e) {
+            log.error("[StockReconciler] Reconcile failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 직전 주기에 차이가 보였던 상품을 다시 확인하고, 같은 차이가 유지되면 정책에 따라 처리합니다.
+     */
+    private void confirmSuspects() {
+        RMap<String, String> suspects = redissonClient.getMap(SUSPECTS_KEY, StringCodec.INSTANCE);
+        Map<String, String> previous = suspects.readAllMap();
+        suspects.delete();
+        if (previous.isEmpty()) {
+            driftProducts.set(0);
+            driftUnits.set(0);
+            return;
+        }
+
+        List<Long> productIds = previous.keySet().stream().map(Long::valueOf).toList();
+        long confirmed = 0;
+        long units = 0;
+        Map<Long, Drift> drifts = measure(dbStocks(productRepository.findAllById(productIds)));
+        for (Map.Entry<Long, Drift> entry : drifts.entrySet()) {
+            Drift drift = entry.getValue();
+            if (drift.amount() != Long.parseLong(previous.get(String.valueOf(entry.getKey())))) {
+                continue; // 차이가 바뀜 → 처리 중인 요청에 의한 일시적 차이로 보고 다음 청크 순회 때 다시 확인
+            }
+            confirmed++;
+            units += Math.abs(drift.amount());
+            resolve(entry.getKey(), drift);
+        }
+        driftProducts.set(confirmed);
+        driftUnits.set(units);
+    }
+
+    /**
+     * 커서 다음 청크의 상품을 확인하고, 차이가 보인 상품을 다음 주기 재확인 대상으로 기록합니다.
+     */
+    private void checkNextChunk() {
+        RBucket<String> cursorBucket = redissonClient.getBucket(CURSOR_KEY, StringCodec.INSTANCE);
+        String storedCursor = cursorBucket.get();
+        long cursor = storedCursor != null ? Long.parseLong(storedCursor) : 0L;
+
+        List<Product> products = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                cursor, PageRequest.of(0, batchSize));
+        // 마지막 청크를 확인하면 처음부터 다시 순회
+        cursorBucket.set(products.size() < batchSize
+                ? "0"
+                : String.valueOf(products.get(products.size() - 1).getProductId()));
+        if (products.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> suspects = new HashMap<>();
+        measure(dbStocks(products)).forEach((productId, drift) ->
+                suspects.put(String.valueOf(productId), String.valueOf(drift.amount())));
+        if (!suspects.isEmpty()) {
+            redissonClient.<String, String>getMap(SUSPECTS_KEY, StringCodec.INSTANCE).putAll(suspects);
+            log.debug("[StockReconciler] {} suspects after productId {}", suspects.size(), cursor);
+        }
+        checkedProducts.increment(products.size());
+    }
+
+    private void resolve(Long productId, Drift drift) {
+        if (POLICY_REPAIR.equals(policy) && Math.abs(drift.amount()) <= maxRepair) {
+            List<Object> keys = new ArrayList<>(drift.stripes() + 1);
+            keys.add(StockStripeRegistry.STRIPES_KEY);
+            keys.addAll(StockStripeRegistry.keysOf(productId, drift.stripes()));
+
+            Long result = stockScriptExecutor.evalInteger(
+                    InventoryScript.RECONCILE_ADJUST,
+                    keys,
+                    String.valueOf(productId),
+                    String.valueOf(drift.stripes()),
+                    String.valueOf(drift.redisStock()),
+                    String.valueOf(-drift.amount())
+            );
+            if (result != null && result >= 0) {
+                repairedProducts.increment();
+                log.warn("[StockReconciler] Repaired productId: {}, redis {} -> {} (drift {})",
+                        productId, drift.redisStock(), result, drift.amount());
+                return;
+            }
+            log.info("[StockReconciler] Repair skipped for productId: {}, script returned {}", productId, result);
+            return;
+        }
+
+        alertedProducts.increment();
+        log.error("[StockReconciler] Stock drift productId: {}, redis: {}, expected: {}, drift: {}",
+                productId, drift.redisStock(), drift.expected(), drift.amount());
+    }
+
+    /**
+     * 상품별 Redis 재고와 기대 재고를 비교합니다.
+     * - Redis에 적재되지 않은 상품(재고 키가 하나도 없음)은 비교하지 않습니다.
+     *
+     * @return 차이가 있는 상품 ID별 차이
+     */
+    private Map<Long, Drift> measure(Map<Long, Integer> dbStocks) {
+        Map<Long, Integer> stripes = new HashMap<>();
+        List<String> stockKeys = new ArrayList<>();
+        dbStocks.keySet().forEach(productId -> {
+            int count = stockStripeRegistry.stripesOf(productId);
+            stripes.put(productId, count);
+            stockKeys.addAll(StockStripeRegistry.keysOf(productId, count));
+        });
+        Map<String, String> redisStocks = redissonClient.getBuckets(StringCodec.INSTANCE)
+                .get(stockKeys.toArray(new String[0]));
+        Map<Long, Long> pending = pendingDeltas(dbStocks.keySet());
+        Map<Long, Long> held = heldQuantities(dbStocks.keySet());
+
+        Map<Long, Drift> drifts = new TreeMap<>();
+        dbStocks.forEach((productId, dbStock) -> {
+            long redisStock = 0;
+            boolean loaded = false;
+            for (String key : StockStripeRegistry.keysOf(productId, stripes.get(productId))) {
+                String value = redisStocks.get(key);
+                if (value != null) {
+                    loaded = true;
+                    redisStock += Long.parseLong(value);
+                }
+            }
+            if (!loaded) {
+                return;
+            }
+
+            long expected = dbStock + pending.getOrDefault(productId, 0L) - held.getOrDefault(productId, 0L);
+            if (redisStock != expected) {
+                drifts.put(productId, new Drift(redisStock, expected, stripes.get(productId)));
+            }
+        });
+        return drifts;
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 상품별 재고 변경분 (누적 중인 변경분 + 반영 대기 배치)
+     */
+    private Map<Long, Long> pendingDeltas(Set<Long> productIds) {
+        Set<String> fields = productIds.stream().map(String::valueOf).collect(Collectors.toSet());
+        List<String> deltaKeys = new ArrayList<>();
+        deltaKeys.add(StockScriptExecutor.STOCK_DELTA_KEY);
+        redissonClient.<String, String>getMap(StockWriteBehindFlusher.BATCHES_KEY, StringCodec.INSTANCE)
+                .readAllKeySet()
+                .forEach(batchId -> deltaKeys.add(StockWriteBehindFlusher.BATCH_KEY_PREFIX + batchId));
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, String>>> futures = new ArrayList<>(deltaKeys.size());
+        deltaKeys.forEach(key -> futures.add(batch.<String, String>getMap(key, StringCodec.INSTANCE).getAllAsync(fields)));
+        batch.execute();
+
+        Map<Long, Long> pending = new HashMap<>();
+        futures.forEach(future -> future.toCompletableFuture().join().forEach((productId, delta) ->
+                pending.merge(Long.valueOf(productId), Long.parseLong(delta), Long::sum)));
+        return pending;
+    }
+
+    /**
+     * 선점(hold) 중인 상품별 수량 (만료되었지만 아직 해제되지 않은 선점 포함)
+     * - 선점/확정/해제 스크립트가 갱신하는 상품별 합계(stock:hold:totals)에서 확인할 상품만 HMGET합니다.
+     */
+    private Map<Long, Long> heldQuantities(Set<Long> productIds) {
+        Set<String> fields = productIds.stream().map(String::valueOf).collect(Collectors.toSet());
+        Map<Long, Long> held = new HashMap<>();
+        redissonClient.<String, String>getMap(StockHoldServiceImpl.HOLD_TOTALS_KEY, StringCodec.INSTANCE)
+                .getAll(fields)
+                .forEach((productId, quantity) -> held.put(Long.valueOf(productId), Long.parseLong(quantity)));
+        return held;
+    }
+
+    /**
+     * 재고 키를 SCAN하여 DB에 없는 상품의 키와 분할 설정과 맞지 않는 stripe 키를 찾습니다.
+     * - 분할 변경 직후에는 설정 캐시가 늦을 수 있으므로 보고만 하고 삭제하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.reconcile.orphan-scan-interval-ms:600000}")
+    public void scanOrphanKeys() {
+        long found = 0;
+        List<String> chunk = new ArrayList<>(batchSize);
+        Iterable<String> stockKeys = redissonClient.getKeys()
+                .getKeysByPattern(StockScriptExecutor.STOCK_KEY_PREFIX + "*", batchSize);
+        for (String key : stockKeys) {
+            chunk.add(key);
+            if (chunk.size() == batchSize) {
+                found += countOrphans(chunk);
+                chunk.clear();
+            }
+        }
+        found += countOrphans(chunk);
+
+        orphanKeys.set(found);
+        if (found > 0) {
+            log.warn("[StockReconciler] Found {} orphan stock keys", found);
+        }
+    }
+
+    private long countOrphans(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        long orphans = 0;
+        Map<String, Long> productIdByKey = new HashMap<>();
+        for (String key : keys) {
+            String[] parts = key.substring(StockScriptExecutor.STOCK_KEY_PREFIX.length()).split(":");
+            try {
+                productIdByKey.put(key, Long.valueOf(parts[0]));
+            } catch (NumberFormatException e) {
+                // 상품 ID로 읽을 수 없는 키도 고아 키로 집계 (검사 전체를 중단하지 않음)
+                log.debug("[StockReconciler] Orphan stock key (not a product id): {}", key);
+                orphans++;
+            }
+        }
+        if (productIdByKey.isEmpty()) {
+            return orphans;
+        }
+        Set<Long> existing = new HashSet<>();
+        productRepository.findAllById(new HashSet<>(productIdByKey.values()))
+                .forEach(product -> existing.add(product.getProductId()));
+
+        for (Map.Entry<String, Long> entry : productIdByKey.entrySet()) {
+            Long productId = entry.getValue();
+            if (!existing.contains(productId) || !stockStripeRegistry.keysOf(productId).contains(entry.getKey())) {
+                log.debug("[StockReconciler] Orphan stock key: {}", entry.getKey());
+                orphans++;
+            }
+        }
+        return orphans;
+    }
+
+    private static Map<Long, Integer> dbStocks(Iterable<Product> products) {
+        Map<Long, Integer> dbStocks = new TreeMap<>();
+        products.forEach(product -> dbStocks.put(product.getProductId(), product.getStockQuantity()));
+        return dbStocks;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.productservice.domain.product.entity.Product;
+import com.jh.productservice.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DB 재고를 Redis 재고 키로 적재하는 컴포넌트
+ */
+@Component
+@RequiredArgsConstructor
+public class StockRedisLoader {
+
+    private final ProductRepository productRepository;
+    private final StockScriptExecutor stockScriptExecutor;
+    private final ThreadPoolTaskExecutor stockTaskExecutor;
+
+    /**
+     * Redis에 재고 키가 없는 상품의 DB 재고를 Redis에 적재합니다. (이미 있으면 덮어쓰지 않음)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 새로 적재된 상품 수
+     */
+    @Transactional(readOnly = true)
+    public int loadMissing(Iterable<Long> productIds) {
+        return load(productRepository.findAllById(productIds));
+    }
+
+    /**
+     * 이미 조회한 상품들의 DB 재고를 Redis에 적재합니다. (이미 있으면 덮어쓰지 않음)
+     * - 상품 목록 전체를 스크립트 한 번으로 적재하므로, 대량 적재 시 청크 단위로 나누어 호출합니다.
+     *
+     * @param products 상품 목록
+     * @return 새로 적재된 상품 수
+     */
+    public int load(Collection<Product> products) {
+        Map<Long, Integer> dbStocks = new TreeMap<>();
+        products.forEach(product -> dbStocks.put(product.getProductId(), product.getStockQuantity()));
+        if (dbStocks.isEmpty()) {
+            return 0;
+        }
+
+        Long loaded = stockScriptExecutor.evalForLines(InventoryScript.LOAD_STOCK, List.of(), List.of(), dbStocks);
+        return loaded != null && loaded > 0 ? loaded.intValue() : 0;
+    }
+
+    /**
+     * loadMissing을 재고 비동기 스레드 풀에서 실행합니다. (Redis 이벤트 루프/요청 스레드에서 DB 조회 방지)
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public CompletableFuture<Void> loadMissingAsync(Iterable<Long> productIds) {
+        return CompletableFuture.runAsync(() -> loadMissing(productIds), stockTaskExecutor);
+    }
+}
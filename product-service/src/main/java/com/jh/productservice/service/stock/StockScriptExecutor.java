@@ -0,0 +1,202 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.productservice.domain.product.dto.StockUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재고 관련 Lua 스크립트 실행 공통 컴포넌트
+ * - 재고 키 규칙과 스크립트 호출/예외 처리를 한 곳에서 관리합니다. (스크립트 적재/EVALSHA는 InventoryScriptRegistry)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockScriptExecutor {
+
+    public static final String STOCK_KEY_PREFIX = "stock:product:";
+
+    // write-behind: DB에 아직 반영되지 않은 상품별 재고 변경분 (Hash) 과 최초 누적 시각
+    public static final String STOCK_DELTA_KEY = "stock:delta";
+    public static final String STOCK_DELTA_SINCE_KEY = "stock:delta:since";
+
+    // 멱등 키: 적용된 재고 변경 연산의 결과 (stock:idem:{연산}:{주문 ID}[:{상품 ID}])
+    public static final String IDEMPOTENCY_KEY_PREFIX = "stock:idem:";
+
+    private final InventoryScriptRegistry inventoryScriptRegistry;
+    private final StockStripeRegistry stockStripeRegistry;
+
+    @Value("${stock.idempotency.ttl-seconds:86400}")
+    private long idempotencyTtlSeconds;
+
+    public static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    public static String idempotencyKey(String operation, Long orderId) {
+        return IDEMPOTENCY_KEY_PREFIX + operation + ":" + orderId;
+    }
+
+    public static String idempotencyKey(String operation, Long orderId, Long productId) {
+        return idempotencyKey(operation, orderId) + ":" + productId;
+    }
+
+    /**
+     * 멱등 키 보관 시간(초): 재시도가 모두 끝날 때까지 충분히 길게 유지합니다.
+     */
+    public long idempotencyTtlSeconds() {
+        return idempotencyTtlSeconds;
+    }
+
+    /**
+     * 정수 결과를 반환하는 스크립트를 실행합니다.
+     *
+     * @return 스크립트 결과 코드 (Redis 오류 시 null)
+     */
+    public Long evalInteger(InventoryScript script, List<Object> keys, Object... args) {
+        return evalIntegerAsync(script, keys, args).join();
+    }
+
+    /**
+     * 정수 결과를 반환하는 스크립트를 비동기로 실행합니다. (호출 스레드를 점유하지 않음)
+     *
+     * @return 스크립트 결과 코드 (Redis 오류 시 null로 완료)
+     */
+    public CompletableFuture<Long> evalIntegerAsync(InventoryScript script, List<Object> keys, Object... args) {
+        return recover(inventoryScriptRegistry.<Long>evalAsync(script, keys, args));
+    }
+
+    /**
+     * 배열 결과를 반환하는 스크립트를 실행합니다.
+     *
+     * @return 스크립트 결과 목록 (Redis 오류 시 빈 목록)
+     */
+    public List<Object> evalMulti(InventoryScript script, List<Object> keys, Object... args) {
+        return evalMultiAsync(script, keys, args).join();
+    }
+
+    /**
+     * 배열 결과를 반환하는 스크립트를 비동기로 실행합니다.
+     *
+     * @return 스크립트 결과 목록 (Redis 오류 시 빈 목록으로 완료)
+     */
+    public CompletableFuture<List<Object>> evalMultiAsync(InventoryScript script, List<Object> keys, Object... args) {
+        return recover(inventoryScriptRegistry.<List<Object>>evalAsync(script, keys, args))
+                .thenApply(result -> result != null ? result : Collections.emptyList());
+    }
+
+    /**
+     * 주문 라인 단위 재고 스크립트를 write-behind 변경분 키와 함께 실행합니다.
+     * - 고정 키: 변경분 Hash, 변경분 최초 누적 시각, (멱등 키)
+     * - 고정 인자: 현재 시각(ms), 멱등 키 보관 시간(초)
+     *
+     * @param script         주문 라인 공통 코드(lines_prelude.lua)를 쓰는 스크립트
+     * @param quantities     상품 ID별 수량
+     * @param idempotencyKey 멱등 키 (null이면 재요청 구분 없이 매번 반영)
+     * @return 스크립트 결과 코드 (Redis 오류 시 null)
+     */
+    public CompletableFuture<Long> evalForQuantitiesAsync(InventoryScript script, Map<Long, Integer> quantities,
+                                                          String idempotencyKey) {
+        List<Object> fixedKeys = new ArrayList<>(3);
+        fixedKeys.add(STOCK_DELTA_KEY);
+        fixedKeys.add(STOCK_DELTA_SINCE_KEY);
+        if (idempotencyKey != null) {
+            fixedKeys.add(idempotencyKey);
+        }
+        return evalForLinesAsync(
+                script,
+                fixedKeys,
+                List.of(String.valueOf(System.currentTimeMillis()), String.valueOf(idempotencyTtlSeconds)),
+                quantities
+        );
+    }
+
+    public Long evalForLines(InventoryScript script, List<Object> fixedKeys, List<Object> fixedArgs,
+                             Map<Long, Integer> quantities) {
+        return evalForLinesAsync(script, fixedKeys, fixedArgs, quantities).join();
+    }
+
+    /**
+     * 주문 라인 단위 재고 스크립트를 실행합니다. (키/인자 구성은 scripts/inventory/lines_prelude.lua 참고)
+     * - 상품별 stripe 키를 모두 전달하고, 시작 stripe는 요청마다 무작위로 골라 부하를 분산합니다.
+     * - 실행 중 stripe 설정 변경(-6)이 감지되면 해당 상품의 설정을 다시 읽고 한 번만 재시도합니다.
+     *
+     * @param script     주문 라인 공통 코드(lines_prelude.lua)를 쓰는 스크립트
+     * @param fixedKeys  스크립트별 고정 키
+     * @param fixedArgs  스크립트별 고정 인자
+     * @param quantities 상품 ID별 수량
+     * @return 스크립트 결과 코드 (Redis 오류 시 null)
+     */
+    public CompletableFuture<Long> evalForLinesAsync(InventoryScript script, List<Object> fixedKeys,
+                                                     List<Object> fixedArgs, Map<Long, Integer> quantities) {
+        return evalLines(script, fixedKeys, fixedArgs, quantities).thenCompose(result -> {
+            if (result != null && result == -6) {
+                return stockStripeRegistry.refreshAsync(quantities.keySet())
+                        .thenCompose(refreshed -> evalLines(script, fixedKeys, fixedArgs, quantities));
+            }
+            return CompletableFuture.completedFuture(result);
+        });
+    }
+
+    /**
+     * 주문 라인을 상품 ID 기준으로 합산하고 정렬합니다.
+     *
+     * @param items 주문 라인 목록
+     * @return 상품 ID별 합산 수량 (상품 ID 오름차순)
+     */
+    public static Map<Long, Integer> mergeQuantities(List<StockUpdateRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockUpdateRequest item : items) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private CompletableFuture<Long> evalLines(InventoryScript script, List<Object> fixedKeys,
+                                              List<Object> fixedArgs, Map<Long, Integer> quantities) {
+        List<Object> keys = new ArrayList<>(fixedKeys.size() + quantities.size() + 1);
+        keys.add(StockStripeRegistry.STRIPES_KEY);
+        keys.addAll(fixedKeys);
+
+        List<Object> args = new ArrayList<>(fixedArgs.size() + quantities.size() * 4 + 2);
+        args.add(String.valueOf(fixedKeys.size()));
+        args.add(String.valueOf(fixedArgs.size()));
+        args.addAll(fixedArgs);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        quantities.forEach((productId, quantity) -> {
+            int stripes = stockStripeRegistry.stripesOf(productId);
+            keys.addAll(StockStripeRegistry.keysOf(productId, stripes));
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+            args.add(String.valueOf(stripes));
+            args.add(String.valueOf(random.nextInt(stripes)));
+        });
+        return evalIntegerAsync(script, keys, args.toArray());
+    }
+
+    private <T> CompletableFuture<T> recover(CompletableFuture<T> future) {
+        return future.exceptionally(e -> {
+            log.error("[StockScriptExecutor] Redis script failed", e);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.jh.productservice.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 재고 분할(stripe) 수를 조회하는 로컬 캐시
+ * - 원본은 Redis stock:stripes Hash (상품 ID → stripe 수, 분할하지 않은 상품은 없음)
+ * - 분할하지 않은 상품은 stock:product:{id} 단일 키, 분할한 상품은 stock:product:{id}:{n} 키를 사용합니다.
+ * - 캐시가 늦게 갱신되더라도 재고 스크립트가 stripe 수를 다시 검증하므로 잘못된 키에 반영되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockStripeRegistry {
+
+    public static final String STRIPES_KEY = "stock:stripes";
+
+    private final RedissonClient redissonClient;
+
+    private volatile Map<Long, Integer> stripes = Map.of();
+
+    public int stripesOf(Long productId) {
+        return stripes.getOrDefault(productId, 1);
+    }
+
+    public Map<Long, Integer> stripedProducts() {
+        return stripes;
+    }
+
+    public List<String> keysOf(Long productId) {
+        return keysOf(productId, stripesOf(productId));
+    }
+
+    public static List<String> keysOf(Long productId, int stripeCount) {
+        if (stripeCount <= 1) {
+            return List.of(StockScriptExecutor.stockKey(productId));
+        }
+        List<String> keys = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            keys.add(StockScriptExecutor.stockKey(productId) + ":" + i);
+        }
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.stripes.refresh-interval-ms:5000}")
+    public void refresh() {
+        Map<Long, Integer> loaded = new HashMap<>();
+        redissonClient.<String, String>getMap(STRIPES_KEY, StringCodec.INSTANCE)
+                .readAllMap()
+                .forEach((productId, count) -> loaded.put(Long.valueOf(productId), Integer.valueOf(count)));
+        this.stripes = Map.copyOf(loaded);
+    }
+
+    /**
+     * 일부 상품의 stripe 수만 즉시 다시 읽어 캐시에 반영합니다. (스크립트가 설정 변경을 감지한 경우)
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public void refresh(Collection<Long> productIds) {
+        refreshAsync(productIds).join();
+    }
+
+    public CompletableFuture<Void> refreshAsync(Collection<Long> productIds) {
+        return redissonClient.<String, String>getMap(STRIPES_KEY, StringCodec.INSTANCE)
+                .getAllAsync(productIds.stream().map(String::valueOf).collect(Collectors.toSet()))
+                .toCompletableFuture()
+                .thenAccept(current -> {
+                    Map<Long, Integer> updated = new HashMap<>(stripes);
+                    for (Long productId : productIds) {
+                        String count = current.get(String.valueOf(productId));
+                        if (count == null) {
+                            updated.remove(productId);
+                        } else {
+                            updated.put(productId, Integer.valueOf(count));
+                        }
+                    }
+                    this.stripes = Map.copyOf(updated);
+                });
+    }
+}
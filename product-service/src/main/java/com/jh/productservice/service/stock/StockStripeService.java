@@ -0,0 +1,45 @@
+package com.jh.productservice.service.stock;
+
+public interface StockStripeService {
+
+    /**
+     * 상품의 재고 분할(stripe) 수를 변경합니다.
+     *
+     * @param productId 상품 ID
+     * @param stripes   재고 분할 수 (1이면 분할 해제)
+     * @return 적용된 재고 분할 수 (진행 중인 이벤트 설정이 더 크면 이벤트 설정)
+     *
+     * 사용 예:
+     * - 짧은 시간에 주문이 몰리는 상품의 재고를 여러 키로 나누어 단일 키 병목을 줄임
+     */
+    int updateProductStripes(Long productId, int stripes);
+
+    /**
+     * 이벤트 상품의 재고 분할 수를 변경합니다. (이벤트 종료 전까지만 적용)
+     *
+     * @param eventProductId 이벤트 상품 ID
+     * @param stripes        재고 분할 수
+     * @return 상품에 적용된 재고 분할 수
+     *
+     * 사용 예:
+     * - 선착순 이벤트 상품만 이벤트 기간 동안 분할하고, 종료 후에는 상품 설정으로 되돌림
+     */
+    int updateEventProductStripes(Long eventProductId, int stripes);
+
+    /**
+     * 상품의 재고를 모든 stripe에 고르게 다시 나눕니다.
+     *
+     * @param productId 상품 ID
+     *
+     * 사용 예:
+     * - 일부 stripe가 먼저 소진되어 차감이 다른 stripe로 넘어간 경우
+     */
+    void rebalance(Long productId);
+
+    /**
+     * DB 설정(상품, 종료되지 않은 이벤트 상품)에 맞게 Redis 재고 분할 상태를 맞춥니다.
+     *
+     * @return 분할 수가 변경된 상품 수
+     */
+    int syncStripes();
+}
@@ -0,0 +1,157 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.common.constant.ErrorCode;
+import com.jh.common.exception.BusinessException;
+import com.jh.productservice.domain.product.entity.EventProduct;
+import com.jh.productservice.domain.product.entity.Product;
+import com.jh.productservice.domain.product.repository.EventProductRepository;
+import com.jh.productservice.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재고 분할(stripe) 관리
+ * - 분할된 상품의 재고는 stock:product:{id}:{n} 키 N개에 나누어 저장되고, 합계가 판매 가능 재고입니다.
+ * - 적용 분할 수 = max(상품 설정, 종료되지 않은 이벤트 상품 설정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockStripeServiceImpl implements StockStripeService {
+
+    public static final int MAX_STRIPES = 32;
+
+    private final ProductRepository productRepository;
+    private final EventProductRepository eventProductRepository;
+    private final StockScriptExecutor stockScriptExecutor;
+    private final StockStripeRegistry stockStripeRegistry;
+
+    @Override
+    @Transactional
+    public int updateProductStripes(Long productId, int stripes) {
+        validateStripes(stripes);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        product.updateStockStripes(stripes);
+        productRepository.saveAndFlush(product);
+
+        syncStripes();
+        return stockStripeRegistry.stripesOf(productId);
+    }
+
+    @Override
+    @Transactional
+    public int updateEventProductStripes(Long eventProductId, int stripes) {
+        validateStripes(stripes);
+        EventProduct eventProduct = eventProductRepository.findById(eventProductId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_PRODUCT_NOT_FOUND));
+
+        eventProduct.updateStockStripes(stripes);
+        eventProductRepository.saveAndFlush(eventProduct);
+
+        syncStripes();
+        return stockStripeRegistry.stripesOf(eventProduct.getProduct().getProductId());
+    }
+
+    /**
+     * 상품의 재고를 모든 stripe에 고르게 다시 나눕니다.
+     * <p>
+     * 동작 방식:
+     * - 분할 수를 그대로 두고 분할 변경 스크립트를 실행하여 합계를 균등 분배합니다. (Redis 왕복 1회)
+     * - 분할하지 않은 상품은 아무것도 하지 않습니다.
+     */
+    @Override
+    public void rebalance(Long productId) {
+        int stripes = stockStripeRegistry.stripesOf(productId);
+        if (stripes > 1) {
+            restripe(productId, stripes, true);
+        }
+    }
+
+    /**
+     * DB 설정에 맞게 Redis 재고 분할 상태를 맞춥니다.
+     * <p>
+     * 동작 방식:
+     * - 상품 설정과 종료되지 않은 이벤트 상품 설정 중 큰 값을 적용 분할 수로 계산합니다.
+     * - 현재 분할되어 있지만 더 이상 설정이 없는 상품(이벤트 종료 등)은 단일 키로 되돌립니다.
+     * - 여러 인스턴스가 동시에 실행해도 스크립트가 기존 분할 수를 검증하므로 한 번만 적용됩니다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${stock.stripes.sync-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public int syncStripes() {
+        stockStripeRegistry.refresh();
+
+        Map<Long, Integer> desired = new HashMap<>();
+        productRepository.findAllByStockStripesGreaterThan(1).forEach(product ->
+                desired.merge(product.getProductId(), product.getStockStripes(), Math::max));
+        eventProductRepository.findStripedBeforeEnd(LocalDateTime.now()).forEach(eventProduct ->
+                desired.merge(eventProduct.getProduct().getProductId(), eventProduct.getStockStripes(), Math::max));
+
+        Set<Long> productIds = new HashSet<>(desired.keySet());
+        productIds.addAll(stockStripeRegistry.stripedProducts().keySet());
+
+        int changed = 0;
+        for (Long productId : productIds) {
+            int target = Math.min(desired.getOrDefault(productId, 1), MAX_STRIPES);
+            if (target != stockStripeRegistry.stripesOf(productId) && restripe(productId, target, false)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private boolean restripe(Long productId, int target, boolean rebalance) {
+        Long result = evalRestripe(productId, stockStripeRegistry.stripesOf(productId), target);
+        if (result != null && result == -6) {
+            // 다른 인스턴스가 먼저 변경한 경우 최신 설정 기준으로 한 번만 재시도
+            stockStripeRegistry.refresh(List.of(productId));
+            int current = stockStripeRegistry.stripesOf(productId);
+            if (current == target && !rebalance) {
+                return false;
+            }
+            result = evalRestripe(productId, current, rebalance ? current : target);
+        }
+
+        if (result == null || result < 0) {
+            log.warn("[restripe] productId: {}, target: {}, Redis script returned {}", productId, target, result);
+            throw new BusinessException(ErrorCode.STOCK_UPDATE_FAILED);
+        }
+        stockStripeRegistry.refresh(List.of(productId));
+        log.debug("[restripe] productId: {}, stripes: {}, stock: {}", productId, stockStripeRegistry.stripesOf(productId), result);
+        return true;
+    }
+
+    private Long evalRestripe(Long productId, int current, int target) {
+        List<Object> keys = new ArrayList<>(current + target + 1);
+        keys.add(StockStripeRegistry.STRIPES_KEY);
+        keys.addAll(StockStripeRegistry.keysOf(productId, current));
+        keys.addAll(StockStripeRegistry.keysOf(productId, target));
+
+        return stockScriptExecutor.evalInteger(
+                InventoryScript.RESTRIPE,
+                keys,
+                String.valueOf(productId),
+                String.valueOf(current),
+                String.valueOf(target)
+        );
+    }
+
+    private void validateStripes(int stripes) {
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_STRIPES);
+        }
+    }
+}
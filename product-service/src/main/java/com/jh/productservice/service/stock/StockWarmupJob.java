@@ -0,0 +1,175 @@
+package com.jh.productservice.service.stock;
+
+import com.jh.productservice.domain.product.entity.Event;
+import com.jh.productservice.domain.product.entity.Product;
+import com.jh.productservice.domain.product.repository.EventProductRepository;
+import com.jh.productservice.domain.product.repository.EventRepository;
+import com.jh.productservice.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 트래픽이 들어오기 전에 DB 재고를 Redis로 미리 적재하는 작업
+ * - 기동 시: 전체 상품(all) 또는 곧 시작하거나 진행 중인 이벤트 상품(events)을 적재 (none이면 생략)
+ * - 주기 실행: 시작 시각이 stock.warmup.event-lead-minutes 이내로 다가온 이벤트의 상품을 적재
+ * - 상품 ID 기준 청크로 읽고, 청크마다 적재 스크립트 한 번으로 기록합니다. (이미 있는 재고 키는 덮어쓰지 않음)
+ * - 진행 상황은 청크 단위 로그와 stock.warmup.* 지표로 확인합니다.
+ */
+@Component
+@Slf4j
+public class StockWarmupJob implements ApplicationRunner {
+
+    private final ProductRepository productRepository;
+    private final EventRepository eventRepository;
+    private final EventProductRepository eventProductRepository;
+    private final StockRedisLoader stockRedisLoader;
+
+    @Value("${stock.warmup.on-startup:all}")
+    private String startupScope;
+
+    @Value("${stock.warmup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${stock.warmup.event-lead-minutes:30}")
+    private long eventLeadMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalProducts = new AtomicLong();
+    private final AtomicLong scannedProducts = new AtomicLong();
+    private final AtomicLong loadedProducts = new AtomicLong();
+
+    // 이미 적재한 이벤트 (종료된 이벤트는 다음 실행 때 제거)
+    private final Set<Long> warmedEvents = ConcurrentHashMap.newKeySet();
+
+    public StockWarmupJob(ProductRepository productRepository,
+                          EventRepository eventRepository,
+                          EventProductRepository eventProductRepository,
+                          StockRedisLoader stockRedisLoader,
+                          MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.eventRepository = eventRepository;
+        this.eventProductRepository = eventProductRepository;
+        this.stockRedisLoader = stockRedisLoader;
+
+        Gauge.builder("stock.warmup.total", totalProducts, AtomicLong::get)
+                .description("진행 중인 재고 warm-up 대상 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.scanned", scannedProducts, AtomicLong::get)
+                .description("재고 warm-up에서 확인한 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.loaded", loadedProducts, AtomicLong::get)
+                .description("재고 warm-up으로 새로 적재한 상품 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            switch (startupScope) {
+                case "all" -> warmUpAllProducts();
+                case "events" -> warmUpUpcomingEvents();
+                case "none" -> log.info("[StockWarmup] Startup warm-up disabled");
+                default -> log.warn("[StockWarmup] Unknown stock.warmup.on-startup: {}", startupScope);
+            }
+        } catch (Exception e) {
+            // 적재되지 않은 상품은 요청 시 개별 적재되므로 기동은 계속 진행
+            log.error("[StockWarmup] Startup warm-up failed", e);
+        }
+    }
+
+    /**
+     * 전체 상품의 재고를 상품 ID 순서대로 청크 단위로 적재합니다.
+     *
+     * @return 새로 적재된 상품 수 (이미 실행 중이면 -1)
+     */
+    public long warmUpAllProducts() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[StockWarmup] Warm-up already running, skipped");
+            return -1;
+        }
+        try {
+            start(productRepository.count());
+            long cursor = 0L;
+            List<Product> chunk;
+            do {
+                chunk = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                        cursor, PageRequest.of(0, batchSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                progress(chunk.size(), stockRedisLoader.load(chunk));
+                cursor = chunk.get(chunk.size() - 1).getProductId();
+            } while (chunk.size() == batchSize);
+
+            log.info("[StockWarmup] All products done: {} scanned, {} loaded",
+                    scannedProducts.get(), loadedProducts.get());
+            return loadedProducts.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 시작이 임박했거나 진행 중인 이벤트 중 아직 적재하지 않은 이벤트의 상품 재고를 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.warmup.event-check-interval-ms:60000}")
+    public void warmUpUpcomingEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> activeEventIds = eventRepository
+                .findByStartDateBeforeAndEndDateAfter(now.plusMinutes(eventLeadMinutes), now).stream()
+                .map(Event::getEventId)
+                .collect(Collectors.toSet());
+        warmedEvents.retainAll(activeEventIds);
+
+        List<Long> eventIds = activeEventIds.stream()
+                .filter(eventId -> !warmedEvents.contains(eventId))
+                .sorted()
+                .toList();
+        if (eventIds.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Long> productIds = eventProductRepository.findProductIdsByEventIds(eventIds);
+            start(productIds.size());
+            for (int from = 0; from < productIds.size(); from += batchSize) {
+                List<Long> chunk = productIds.subList(from, Math.min(from + batchSize, productIds.size()));
+                progress(chunk.size(), stockRedisLoader.loadMissing(chunk));
+            }
+            warmedEvents.addAll(eventIds);
+
+            log.info("[StockWarmup] Events {} done: {} products, {} loaded",
+                    eventIds, productIds.size(), loadedProducts.get());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void start(long total) {
+        totalProducts.set(total);
+        scannedProducts.set(0);
+        loadedProducts.set(0);
+    }
+
+    private void progress(int scanned, int loaded) {
+        long done = scannedProducts.addAndGet(scanned);
+        loadedProducts.addAndGet(loaded);
+        long total = Math.max(totalProducts.get(), done);
+        log.info("[StockWarmup] {}/{} products ({}%), {} loaded",
+                done, total, total == 0 ? 100 : done * 100 / total, loadedProducts.get());
+    }
+}
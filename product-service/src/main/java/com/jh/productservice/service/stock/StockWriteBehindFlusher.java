@@ -0,0 +1,164 @@
+package com.jh.productservice.service.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 재고 변경분을 MySQL에 비동기 일괄 반영하는 write-behind 플러셔
+ * <p>
+ * 동작 방식:
+ * - 재고 스크립트가 stock:delta Hash에 상품별 변경분을 원자적으로 누적합니다. (HINCRBY)
+ * - 주기마다 누적 Hash를 배치 키로 RENAME하여 떼어내고, 배치 ID를 stock:delta:batches에 등록합니다.
+ * - 등록된 배치를 상품 ID 순으로 정렬해 JDBC 배치 UPDATE로 반영한 뒤 배치 키를 삭제합니다.
+ * - 반영 이력(stock_flush_log)으로 배치 단위 멱등성을 보장하므로, 실패/중복 실행 시 다음 주기에 안전하게 재시도합니다.
+ * - 반영 후 재고가 음수가 된 상품은 그대로 두고 경고 로그와 지표(stock.writebehind.negative.rows)로 남깁니다. (대사에서 차이로 확인)
+ */
+@Component
+@Slf4j
+public class StockWriteBehindFlusher {
+
+    static final String BATCHES_KEY = "stock:delta:batches";        // 배치 ID → 최초 누적 시각(ms)
+    static final String BATCH_KEY_PREFIX = "stock:delta:batch:";
+
+    private static final long FLUSH_LOG_RETENTION_DAYS = 1;
+
+    private final RedissonClient redissonClient;
+    private final StockScriptExecutor stockScriptExecutor;
+    private final StockDeltaWriter stockDeltaWriter;
+
+    private final AtomicLong backlogProducts = new AtomicLong();
+    private final AtomicLong pendingBatches = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+    private final Counter negativeRows;
+    private final Timer flushTimer;
+
+    public StockWriteBehindFlusher(RedissonClient redissonClient,
+                                   StockScriptExecutor stockScriptExecutor,
+                                   StockDeltaWriter stockDeltaWriter,
+                                   MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.stockScriptExecutor = stockScriptExecutor;
+        this.stockDeltaWriter = stockDeltaWriter;
+
+        Gauge.builder("stock.writebehind.backlog", backlogProducts, AtomicLong::get)
+                .description("DB에 반영되지 않은 상품별 재고 변경분 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.writebehind.pending.batches", pendingBatches, AtomicLong::get)
+                .description("반영 대기 중인 배치 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.writebehind.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미반영 변경분의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("stock.writebehind.flushed.rows")
+                .description("DB에 반영된 상품별 변경분 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("stock.writebehind.flush.failures")
+                .description("배치 반영 실패 횟수")
+                .register(meterRegistry);
+        this.negativeRows = Counter.builder("stock.writebehind.negative.rows")
+                .description("반영 후 재고가 음수가 된 상품 수 (초과 판매 또는 중복 반영 의심)")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("stock.writebehind.flush")
+                .description("플러시 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        flushTimer.record(this::flushPendingBatches);
+    }
+
+    @Scheduled(cron = "${stock.write-behind.purge-cron:0 0 4 * * *}")
+    public void purgeFlushLog() {
+        int deleted = stockDeltaWriter.purgeFlushLog(LocalDateTime.now().minusDays(FLUSH_LOG_RETENTION_DAYS));
+        log.info("[StockWriteBehindFlusher] Purged {} flush log rows", deleted);
+    }
+
+    private void flushPendingBatches() {
+        rotateCurrentDeltas();
+
+        RMap<String, String> batches = redissonClient.getMap(BATCHES_KEY, StringCodec.INSTANCE);
+        for (String batchId : batches.readAllKeySet()) {
+            flushBatch(batchId, batches);
+        }
+
+        updateMetrics(batches);
+    }
+
+    private void rotateCurrentDeltas() {
+        String batchId = UUID.randomUUID().toString();
+        stockScriptExecutor.evalInteger(
+                InventoryScript.ROTATE_DELTA,
+                List.of(StockScriptExecutor.STOCK_DELTA_KEY, StockScriptExecutor.STOCK_DELTA_SINCE_KEY,
+                        BATCHES_KEY, BATCH_KEY_PREFIX + batchId),
+                batchId,
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    private void flushBatch(String batchId, RMap<String, String> batches) {
+        RMap<String, String> batch = redissonClient.getMap(BATCH_KEY_PREFIX + batchId, StringCodec.INSTANCE);
+
+        // 상품 ID 순으로 정렬하여 동시 플러시 간 행 잠금 순서를 고정 (데드락 방지)
+        Map<Long, Long> deltas = new TreeMap<>();
+        batch.readAllMap().forEach((productId, delta) ->
+                deltas.put(Long.valueOf(productId), Long.valueOf(delta)));
+
+        try {
+            StockDeltaWriter.BatchResult result = stockDeltaWriter.applyBatch(batchId, deltas);
+            if (result.applied()) {
+                flushedRows.increment(deltas.size());
+                if (!result.negativeProductIds().isEmpty()) {
+                    negativeRows.increment(result.negativeProductIds().size());
+                    log.warn("[StockWriteBehindFlusher] Stock went negative after batch {} for products {}",
+                            batchId, result.negativeProductIds());
+                }
+            } else {
+                log.info("[StockWriteBehindFlusher] Batch {} was already applied. Skipping.", batchId);
+            }
+            batch.delete();
+            batches.fastRemove(batchId);
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.error("[StockWriteBehindFlusher] Failed to flush batch {}", batchId, e);
+        }
+    }
+
+    private void updateMetrics(RMap<String, String> batches) {
+        Map<String, String> remaining = batches.readAllMap();
+
+        long backlog = redissonClient.getMap(StockScriptExecutor.STOCK_DELTA_KEY, StringCodec.INSTANCE).size();
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, String> entry : remaining.entrySet()) {
+            backlog += redissonClient.getMap(BATCH_KEY_PREFIX + entry.getKey(), StringCodec.INSTANCE).size();
+            oldest = Math.min(oldest, Long.parseLong(entry.getValue()));
+        }
+
+        String since = redissonClient.<String>getBucket(StockScriptExecutor.STOCK_DELTA_SINCE_KEY, StringCodec.INSTANCE).get();
+        if (since != null) {
+            oldest = Math.min(oldest, Long.parseLong(since));
+        }
+
+        backlogProducts.set(backlog);
+        pendingBatches.set(remaining.size());
+        lagMillis.set(oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest);
+    }
+}
@@ -0,0 +1,24 @@
+-- 차감 없이 재고 충분 여부만 판단
+-- KEYS: 상품의 재고 키 전체 (분할된 상품은 모든 stripe 키), ARGV[1]: 수량
+-- 결과: 1 충분, -1 부족/값 오류, -4 재고 키 없음 (DB 재고 적재 후 재확인)
+
+local quantity = tonumber(ARGV[1])
+if quantity == nil then
+    return -1
+end
+local stockVal = 0
+for i = 1, #KEYS do
+    local currentStock = redis.call('GET', KEYS[i])
+    if not currentStock then
+        return -4  -- 키가 없으면 DB 재고 적재 후 재확인
+    end
+    local stripeVal = tonumber(currentStock)
+    if not stripeVal then
+        return -1  -- 숫자 아님
+    end
+    stockVal = stockVal + stripeVal
+end
+if stockVal < quantity then
+    return -1  -- 부족
+end
+return 1      -- 충분
@@ -0,0 +1,24 @@
+-- 선점 확정
+-- KEYS[1]: 선점 Hash, KEYS[2]: 만료 Sorted Set, KEYS[3]: write-behind 변경분 Hash
+-- KEYS[4]: 변경분 최초 누적 시각, KEYS[5]: 확정 기록
+-- ARGV[1]: 주문 ID, ARGV[2]: 현재 시각(ms), ARGV[3]: 기록 보관 시간(초)
+-- 선점이 없거나 만료 시각이 지났으면 빈 배열 반환 (만료분은 스케줄러가 해제)
+-- 확정 시 선점 수량을 DB 반영 대상 변경분으로 옮기고 [상품 ID, 수량, ...] 반환
+-- 선점 Hash를 확정 기록으로 옮겨 두고, 재요청에는 기록된 결과를 그대로 반환
+
+if redis.call('EXISTS', KEYS[5]) == 1 then
+    return redis.call('HGETALL', KEYS[5]) -- 이미 확정된 주문 (재요청)
+end
+local deadline = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if redis.call('EXISTS', KEYS[1]) == 0 or not deadline or tonumber(deadline) < tonumber(ARGV[2]) then
+    return {}
+end
+local items = redis.call('HGETALL', KEYS[1])
+for i = 1, #items, 2 do
+    redis.call('HINCRBY', KEYS[3], items[i], -tonumber(items[i + 1]))
+end
+redis.call('SET', KEYS[4], ARGV[2], 'NX')
+redis.call('RENAME', KEYS[1], KEYS[5])
+redis.call('EXPIRE', KEYS[5], tonumber(ARGV[3]))
+redis.call('ZREM', KEYS[2], ARGV[1])
+return items
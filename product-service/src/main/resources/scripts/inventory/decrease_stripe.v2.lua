@@ -0,0 +1,49 @@
+-- 단일 재고 키(분할된 상품은 stripe 하나) 차감
+-- KEYS[1]: 재고 키, KEYS[2]: write-behind 변경분 Hash, KEYS[3]: 변경분 최초 누적 시각
+-- KEYS[4]: stripe 설정 Hash, KEYS[5]: 멱등 키 (선택)
+-- ARGV[1]: 수량, ARGV[2]: 상품 ID, ARGV[3]: 현재 시각(ms), ARGV[4]: 호출 시점 stripe 수, ARGV[5]: 멱등 키 보관 시간(초)
+-- 결과: 차감 후 재고 (0 이상), -1 재고 부족, -2 수량 오류, -3 재고 값 오류, -4 재고 키 없음, -6 stripe 설정 변경
+-- v2: 재고 키가 없으면 0으로 만들지 않고 -4 반환 (DB 재고 적재 후 재시도)
+local quantity = tonumber(ARGV[1])
+if not quantity then
+    return -2 -- 수량 변환 실패
+end
+
+-- 이미 반영된 요청이면 기록된 결과를 그대로 반환
+if KEYS[5] then
+    local applied = redis.call('GET', KEYS[5])
+    if applied then
+        return tonumber(applied)
+    end
+end
+
+-- 호출 시점 이후 분할 수가 바뀌었으면 차감하지 않음
+if tonumber(redis.call('HGET', KEYS[4], ARGV[2]) or '1') ~= tonumber(ARGV[4]) then
+    return -6
+end
+
+local stockKey = KEYS[1]
+local currentStockStr = redis.call('GET', stockKey)
+if not currentStockStr then
+    return -4 -- 재고 미적재 (0으로 간주하면 판매 가능한 주문을 거절하게 됨)
+end
+
+local currentStock = tonumber(currentStockStr)
+if not currentStock then
+    return -3 -- 재고 값이 숫자 아님
+end
+
+if currentStock < quantity then
+    return -1 -- 재고 부족
+end
+
+-- 충분하면 차감
+local newStock = redis.call('DECRBY', stockKey, quantity)
+
+-- write-behind: DB에 반영할 재고 변경분 누적
+redis.call('HINCRBY', KEYS[2], ARGV[2], -quantity)
+redis.call('SET', KEYS[3], ARGV[3], 'NX')
+if KEYS[5] then
+    redis.call('SET', KEYS[5], newStock, 'EX', tonumber(ARGV[5]))
+end
+return newStock
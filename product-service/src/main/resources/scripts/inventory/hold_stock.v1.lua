@@ -0,0 +1,20 @@
+-- 재고 선점
+-- KEYS[2]: 선점 Hash, KEYS[3]: 만료 Sorted Set, KEYS[4]: 확정 기록, KEYS[5]: 해제 기록
+-- ARGV[3]: 주문 ID, ARGV[4]: 만료 시각(ms), ARGV[5]: Hash TTL(초)
+
+if redis.call('EXISTS', KEYS[2], KEYS[4], KEYS[5]) > 0 then
+    return 2 -- 이미 선점(또는 확정/해제)된 주문 (재요청)
+end
+
+local code = validate()
+if code < 0 then
+    return code
+end
+
+for _, line in ipairs(lines) do
+    take(line)
+    redis.call('HSET', KEYS[2], line.productId, line.quantity)
+end
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[5]))
+redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), ARGV[3])
+return 1
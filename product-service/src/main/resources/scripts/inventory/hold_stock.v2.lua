@@ -0,0 +1,22 @@
+-- 재고 선점
+-- KEYS[2]: 선점 Hash, KEYS[3]: 만료 Sorted Set, KEYS[4]: 확정 기록, KEYS[5]: 해제 기록, KEYS[6]: 상품별 선점 합계 Hash
+-- ARGV[3]: 주문 ID, ARGV[4]: 만료 시각(ms), ARGV[5]: Hash TTL(초, v2에서는 사용하지 않음)
+-- v2: 상품별 선점 합계(KEYS[6])를 함께 증가시킴 (대사 시 선점 전체를 읽지 않도록)
+--     선점 Hash는 확정/해제 스크립트만 삭제 (TTL로 사라지면 선점 합계에서 빠지지 않음)
+
+if redis.call('EXISTS', KEYS[2], KEYS[4], KEYS[5]) > 0 then
+    return 2 -- 이미 선점(또는 확정/해제)된 주문 (재요청)
+end
+
+local code = validate()
+if code < 0 then
+    return code
+end
+
+for _, line in ipairs(lines) do
+    take(line)
+    redis.call('HSET', KEYS[2], line.productId, line.quantity)
+    redis.call('HINCRBY', KEYS[6], line.productId, line.quantity)
+end
+redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), ARGV[3])
+return 1
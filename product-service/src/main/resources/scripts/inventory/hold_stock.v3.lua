@@ -0,0 +1,25 @@
+-- 재고 선점
+-- KEYS[2]: 선점 Hash, KEYS[3]: 만료 Sorted Set, KEYS[4]: 확정 기록, KEYS[5]: 해제 기록, KEYS[6]: 상품별 선점 합계 Hash
+-- ARGV[3]: 주문 ID, ARGV[4]: 만료 시각(ms), ARGV[5]: Hash TTL(초, 사용하지 않음)
+-- 결과: 1 선점, 2 이미 선점/확정된 주문 (재요청), -7 이미 해제(만료/취소)된 주문, 그 외 lines_prelude.lua 결과 코드
+-- v3: 해제된 주문의 재요청은 성공(2) 대신 -7을 반환 (재고 없이 결제로 넘어가지 않도록)
+
+if redis.call('EXISTS', KEYS[5]) == 1 then
+    return -7 -- 선점이 이미 해제되어 다시 선점하지 않음
+end
+if redis.call('EXISTS', KEYS[2], KEYS[4]) > 0 then
+    return 2 -- 이미 선점(또는 확정)된 주문 (재요청)
+end
+
+local code = validate()
+if code < 0 then
+    return code
+end
+
+for _, line in ipairs(lines) do
+    take(line)
+    redis.call('HSET', KEYS[2], line.productId, line.quantity)
+    redis.call('HINCRBY', KEYS[6], line.productId, line.quantity)
+end
+redis.call('ZADD', KEYS[3], tonumber(ARGV[4]), ARGV[3])
+return 1
@@ -0,0 +1,77 @@
+-- 주문 라인 단위 재고 스크립트 공통 코드 (LINES_PRELUDE 사용 스크립트 앞에 붙여 함께 로드)
+-- KEYS[1]: stripe 설정 Hash, KEYS[2 .. 1 + F]: 스크립트별 고정 키, 이후 라인별 재고 키(stripe 수만큼)
+-- ARGV[1]: 고정 키 수(F), ARGV[2]: 고정 인자 수(A), ARGV[3 .. 2 + A]: 스크립트별 고정 인자
+-- 이후 라인별 [상품 ID, 수량, stripe 수, 시작 stripe] 4개씩
+-- 결과 코드: -1 재고 부족, -2 수량 오류, -3 재고 값 오류, -4 재고 키 없음, -6 stripe 설정 변경
+
+local lines = {}
+local nextKey = 2 + tonumber(ARGV[1])
+for a = 3 + tonumber(ARGV[2]), #ARGV, 4 do
+    local line = {
+        productId = ARGV[a],
+        quantity = tonumber(ARGV[a + 1]),
+        stripes = tonumber(ARGV[a + 2]),
+        offset = tonumber(ARGV[a + 3]),
+        firstKey = nextKey
+    }
+    nextKey = nextKey + line.stripes
+    table.insert(lines, line)
+end
+
+-- 호출 시점의 stripe 수가 현재 설정과 다른지 확인
+local function stripesChanged(line)
+    return tonumber(redis.call('HGET', KEYS[1], line.productId) or '1') ~= line.stripes
+end
+
+-- 라인의 판매 가능 재고 합계 (실패 시 nil, 결과 코드)
+local function available(line)
+    local total = 0
+    for j = 0, line.stripes - 1 do
+        local value = redis.call('GET', KEYS[line.firstKey + j])
+        if not value then
+            return nil, -4
+        end
+        local stock = tonumber(value)
+        if not stock then
+            return nil, -3
+        end
+        total = total + stock
+    end
+    return total, 0
+end
+
+-- 모든 라인 검증 (차감 전에 호출, 0이면 통과)
+local function validate()
+    for _, line in ipairs(lines) do
+        if not line.quantity or line.quantity <= 0 then
+            return -2
+        end
+        if stripesChanged(line) then
+            return -6
+        end
+        local total, code = available(line)
+        if not total then
+            return code
+        end
+        if total < line.quantity then
+            return -1
+        end
+    end
+    return 0
+end
+
+-- 라인 수량을 시작 stripe부터 차례로 차감 (validate 통과 후 호출)
+local function take(line)
+    local remaining = line.quantity
+    for j = 0, line.stripes - 1 do
+        if remaining == 0 then
+            break
+        end
+        local key = KEYS[line.firstKey + ((line.offset + j) % line.stripes)]
+        local amount = math.min(tonumber(redis.call('GET', key)), remaining)
+        if amount > 0 then
+            redis.call('DECRBY', key, amount)
+            remaining = remaining - amount
+        end
+    end
+end
@@ -0,0 +1,31 @@
+-- DB 재고를 Redis 재고 키로 적재 (라인 수량 = DB 재고)
+-- 상품의 재고 키가 하나도 없을 때만 DB 재고를 stripe 수만큼 고르게 나누어 적재 (이미 있으면 덮어쓰지 않음)
+
+for _, line in ipairs(lines) do
+    if stripesChanged(line) then
+        return -6
+    end
+end
+
+local loaded = 0
+for _, line in ipairs(lines) do
+    local exists = false
+    for j = 0, line.stripes - 1 do
+        if redis.call('EXISTS', KEYS[line.firstKey + j]) == 1 then
+            exists = true
+        end
+    end
+    if not exists then
+        local share = math.floor(line.quantity / line.stripes)
+        local rest = line.quantity - share * line.stripes
+        for j = 0, line.stripes - 1 do
+            local amount = share
+            if j < rest then
+                amount = amount + 1
+            end
+            redis.call('SET', KEYS[line.firstKey + j], amount)
+        end
+        loaded = loaded + 1
+    end
+end
+return loaded
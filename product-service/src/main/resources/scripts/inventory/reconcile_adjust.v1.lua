@@ -0,0 +1,50 @@
+-- 대사 결과에 따라 Redis 재고를 기대값으로 보정
+-- KEYS[1]: stripe 설정 Hash, KEYS[2 .. 1 + stripes]: 상품 재고 키
+-- ARGV[1]: 상품 ID, ARGV[2]: stripe 수, ARGV[3]: 대사 시 확인한 재고 합계, ARGV[4]: 보정량
+-- 결과: 보정 후 재고 합계, -1 보정 후 음수, -3 재고 값 오류, -4 재고 키 없음, -6 stripe 설정 변경, -7 확인 이후 재고 변경
+local stripes = tonumber(ARGV[2])
+if tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '1') ~= stripes then
+    return -6
+end
+
+local values = {}
+local total = 0
+for j = 1, stripes do
+    local value = redis.call('GET', KEYS[1 + j])
+    if not value then
+        return -4
+    end
+    local stock = tonumber(value)
+    if not stock then
+        return -3
+    end
+    values[j] = stock
+    total = total + stock
+end
+
+-- 확인 이후 주문 등으로 재고가 바뀌었으면 보정하지 않음 (다음 대사에서 다시 판단)
+if total ~= tonumber(ARGV[3]) then
+    return -7
+end
+
+local adjustment = tonumber(ARGV[4])
+if total + adjustment < 0 then
+    return -1
+end
+
+if adjustment >= 0 then
+    redis.call('INCRBY', KEYS[2], adjustment)
+else
+    local remaining = -adjustment
+    for j = 1, stripes do
+        if remaining == 0 then
+            break
+        end
+        local amount = math.min(values[j], remaining)
+        if amount > 0 then
+            redis.call('DECRBY', KEYS[1 + j], amount)
+            remaining = remaining - amount
+        end
+    end
+end
+return total + adjustment
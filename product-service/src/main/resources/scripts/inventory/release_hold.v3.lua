@@ -0,0 +1,35 @@
+-- 선점 해제: 선점 수량을 판매 가능 재고로 되돌림
+-- KEYS[2]: 선점 Hash, KEYS[3]: 만료 Sorted Set, KEYS[4]: 해제 기록, KEYS[5]: 상품별 선점 합계 Hash
+-- ARGV[3]: 주문 ID, ARGV[4]: 기록 보관 시간(초)
+-- 라인: 호출 측이 읽은 선점 Hash의 상품 ID/수량과 상품별 재고 키 (lines_prelude.lua 참고)
+-- 결과: 해제한 라인 수 (재요청이면 기록된 라인 수), -6 stripe 설정 변경, -7 전달한 라인과 선점 내용 불일치
+-- 분할된 상품은 시작 stripe 하나에 되돌림 (치우침은 재분배로 해소)
+-- 선점 Hash를 해제 기록으로 옮겨 두고, 선점 수량만큼 상품별 선점 합계를 감소 (0 이하가 되면 필드 삭제)
+-- v3: 재고 키를 스크립트 안에서 만들지 않고 모두 KEYS로 전달받음 (Redis Cluster에서 접근 키를 모두 선언)
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    redis.call('ZREM', KEYS[3], ARGV[3]) -- 선점 Hash 없이 남은 만료 항목 정리
+    return redis.call('HLEN', KEYS[4]) -- 선점 없음 또는 이미 해제된 주문 (재요청)
+end
+if redis.call('HLEN', KEYS[2]) ~= #lines then
+    return -7
+end
+for _, line in ipairs(lines) do
+    if tonumber(redis.call('HGET', KEYS[2], line.productId)) ~= line.quantity then
+        return -7
+    end
+    if stripesChanged(line) then
+        return -6
+    end
+end
+
+for _, line in ipairs(lines) do
+    redis.call('INCRBY', KEYS[line.firstKey + line.offset], line.quantity)
+    if redis.call('HINCRBY', KEYS[5], line.productId, -line.quantity) <= 0 then
+        redis.call('HDEL', KEYS[5], line.productId)
+    end
+end
+redis.call('RENAME', KEYS[2], KEYS[4])
+redis.call('EXPIRE', KEYS[4], tonumber(ARGV[4]))
+redis.call('ZREM', KEYS[3], ARGV[3])
+return #lines
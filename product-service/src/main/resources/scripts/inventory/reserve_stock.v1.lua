@@ -0,0 +1,32 @@
+-- 주문 전체 라인의 재고를 검증 후 일괄 차감 (all-or-nothing)
+-- KEYS[2]: write-behind 변경분 Hash, KEYS[3]: 변경분 최초 누적 시각
+-- ARGV[3]: 현재 시각(ms)
+-- 분할된 상품은 stripe 합계로 검증하고, 시작 stripe부터 차례로 차감
+-- 멱등 키가 있으면 반영 결과를 기록하고, 재요청에는 기록된 결과를 그대로 반환
+
+-- KEYS[4]: 멱등 키 (고정 키가 3개일 때만), ARGV[4]: 멱등 키 보관 시간(초)
+local idempotencyKey = nil
+if tonumber(ARGV[1]) >= 3 then
+    idempotencyKey = KEYS[4]
+    local applied = redis.call('GET', idempotencyKey)
+    if applied then
+        return tonumber(applied) -- 이미 반영된 요청 (재요청)
+    end
+end
+
+-- 1단계: 모든 라인 검증 (하나라도 실패하면 아무것도 차감하지 않음)
+local code = validate()
+if code < 0 then
+    return code
+end
+
+-- 2단계: 검증을 모두 통과한 경우에만 일괄 차감
+for _, line in ipairs(lines) do
+    take(line)
+    redis.call('HINCRBY', KEYS[2], line.productId, -line.quantity)
+end
+redis.call('SET', KEYS[3], ARGV[3], 'NX')
+if idempotencyKey then
+    redis.call('SET', idempotencyKey, 1, 'EX', tonumber(ARGV[4]))
+end
+return 1
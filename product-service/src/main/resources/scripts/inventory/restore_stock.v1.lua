@@ -0,0 +1,37 @@
+-- 주문 라인 재고 일괄 복구 (주문 취소/반품)
+-- KEYS[2]: write-behind 변경분 Hash, KEYS[3]: 변경분 최초 누적 시각
+-- KEYS[3 + i]: i번째 라인의 멱등 키 (주문 ID가 있을 때만, 라인 순서대로)
+-- ARGV[3]: 현재 시각(ms), ARGV[4]: 멱등 키 보관 시간(초)
+-- 라인마다 시작 stripe 하나에 INCRBY하고, 같은 수량을 DB 반영 대상 변경분에 누적 (DB는 플러셔가 조건부 증가로 반영)
+-- 결과: 이번 호출에서 복구한 라인 수 (이미 복구된 라인은 건너뜀), -2 수량 오류, -3 재고 값 오류, -4 재고 키 없음, -6 stripe 설정 변경
+local withIdempotency = tonumber(ARGV[1]) >= 2 + #lines
+
+for _, line in ipairs(lines) do
+    if not line.quantity or line.quantity <= 0 then
+        return -2
+    end
+    if stripesChanged(line) then
+        return -6
+    end
+    local total, code = available(line)
+    if not total then
+        return code
+    end
+end
+
+local restored = 0
+for i, line in ipairs(lines) do
+    local idempotencyKey = withIdempotency and KEYS[3 + i] or nil
+    if not (idempotencyKey and redis.call('EXISTS', idempotencyKey) == 1) then
+        redis.call('INCRBY', KEYS[line.firstKey + line.offset], line.quantity)
+        redis.call('HINCRBY', KEYS[2], line.productId, line.quantity)
+        if idempotencyKey then
+            redis.call('SET', idempotencyKey, 1, 'EX', tonumber(ARGV[4]))
+        end
+        restored = restored + 1
+    end
+end
+if restored > 0 then
+    redis.call('SET', KEYS[3], ARGV[3], 'NX')
+end
+return restored
@@ -0,0 +1,46 @@
+-- 재고 분할 변경 (분할 수가 같으면 재분배)
+-- KEYS[1]: stripe 설정 Hash, KEYS[2 .. 1 + old]: 기존 재고 키, 이후 새 재고 키
+-- ARGV[1]: 상품 ID, ARGV[2]: 기존 분할 수, ARGV[3]: 새 분할 수
+-- 기존 키의 합계를 새 키에 고르게 나누고, 분할 설정을 함께 변경 (재고 키가 없으면 설정만 변경)
+
+local old = tonumber(ARGV[2])
+local new = tonumber(ARGV[3])
+if tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '1') ~= old then
+    return -6 -- 다른 요청이 먼저 분할 수를 변경함
+end
+
+local total = 0
+local exists = false
+for j = 1, old do
+    local value = redis.call('GET', KEYS[1 + j])
+    if value then
+        local stock = tonumber(value)
+        if not stock then
+            return -3 -- 재고 값이 숫자 아님
+        end
+        exists = true
+        total = total + stock
+    end
+end
+
+if exists then
+    for j = 1, old do
+        redis.call('DEL', KEYS[1 + j])
+    end
+    local share = math.floor(total / new)
+    local rest = total - share * new
+    for j = 1, new do
+        local amount = share
+        if j <= rest then
+            amount = amount + 1
+        end
+        redis.call('SET', KEYS[1 + old + j], amount)
+    end
+end
+
+if new > 1 then
+    redis.call('HSET', KEYS[1], ARGV[1], new)
+else
+    redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return total
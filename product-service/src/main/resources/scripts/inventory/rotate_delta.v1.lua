@@ -0,0 +1,12 @@
+-- 현재까지 누적된 변경분을 새 배치로 떼어냄
+-- KEYS[1]: 변경분 Hash, KEYS[2]: 최초 누적 시각, KEYS[3]: 배치 목록, KEYS[4]: 새 배치 키
+-- ARGV[1]: 배치 ID, ARGV[2]: 현재 시각(ms)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('RENAME', KEYS[1], KEYS[4])
+local since = redis.call('GET', KEYS[2]) or ARGV[2]
+redis.call('DEL', KEYS[2])
+redis.call('HSET', KEYS[3], ARGV[1], since)
+return 1
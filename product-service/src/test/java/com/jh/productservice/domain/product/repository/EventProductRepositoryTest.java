@@ -0,0 +1,90 @@
+package com.jh.productservice.domain.product.repository;
+
+import com.jh.productservice.domain.product.entity.Event;
+import com.jh.productservice.domain.product.entity.EventProduct;
+import com.jh.productservice.domain.product.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록/상세의 이벤트 조회가 상품 수에 비례해 쿼리를 늘리지 않는지(N+1) 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventProductRepositoryTest {
+
+    @Autowired
+    private EventProductRepository eventProductRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Event active = entityManager.persist(new Event("진행 중 이벤트", now.minusDays(1), now.plusDays(1)));
+        Event upcoming = entityManager.persist(new Event("예정 이벤트", now.plusDays(1), now.plusDays(2)));
+        Event ended = entityManager.persist(new Event("종료 이벤트", now.minusDays(3), now.minusDays(2)));
+
+        productIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Product product = entityManager.persist(
+                    new Product("상품" + i, "설명", BigDecimal.valueOf(10000), 100));
+            entityManager.persist(new EventProduct(active, product, 10.0));
+            entityManager.persist(new EventProduct(upcoming, product, 20.0));
+            entityManager.persist(new EventProduct(ended, product, 30.0));
+            productIds.add(product.getProductId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 상품_목록의_종료되지_않은_이벤트를_쿼리_한_번으로_조회한다() {
+        List<EventProduct> eventProducts =
+                eventProductRepository.findActiveWithEventByProductIdIn(productIds, LocalDateTime.now());
+
+        // 매핑 시 접근하는 연관관계 (이벤트 정보, 상품 ID)
+        eventProducts.forEach(eventProduct -> {
+            eventProduct.getEvent().getEventName();
+            eventProduct.getEvent().getEndDate();
+            eventProduct.getProduct().getProductId();
+        });
+
+        assertThat(eventProducts).hasSize(20);
+        assertThat(eventProducts).allMatch(eventProduct ->
+                eventProduct.getEvent().getEndDate().isAfter(LocalDateTime.now()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 상품_상세의_이벤트를_쿼리_한_번으로_조회한다() {
+        List<EventProduct> eventProducts = eventProductRepository.findByProduct_ProductId(productIds.get(0));
+
+        eventProducts.forEach(eventProduct -> eventProduct.getEvent().getEventName());
+
+        assertThat(eventProducts).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}